@@ -0,0 +1,72 @@
+package benchmark;
+
+import board.Board;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * tryOccupyCell + releaseCell sobre un tablero compartido. Con varios hilos
+ * (-t o BenchmarkRunner) mide la contención en las casillas y en los índices.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "--enable-preview")
+public class BoardOccupancyBenchmark {
+
+    @Param({"10", "100", "1000"})
+    public int boardSize;
+
+    @Param({"OBJECT", "PACKED"})
+    public Board.StorageMode storage;
+
+    private Board board;
+
+    /** Cada hilo es un ocupante distinto, como un jugador. */
+    @State(Scope.Thread)
+    public static class Occupant {
+        private final Object token = new Object();
+    }
+
+    @Setup(Level.Trial)
+    public void setup() {
+        board = new Board(boardSize, storage);
+    }
+
+    @Benchmark
+    public boolean occupyAndRelease(Occupant occupant) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        int row = random.nextInt(boardSize);
+        int col = random.nextInt(boardSize);
+        if (board.tryOccupyCell(row, col, occupant.token)) {
+            board.releaseCell(row, col, occupant.token);
+            return true;
+        }
+        return false;
+    }
+
+    /** Todos los hilos compiten por la misma casilla: el peor caso de contención. */
+    @Benchmark
+    public boolean occupyHotCell(Occupant occupant) {
+        if (board.tryOccupyCell(0, 0, occupant.token)) {
+            board.releaseCell(0, 0, occupant.token);
+            return true;
+        }
+        return false;
+    }
+}
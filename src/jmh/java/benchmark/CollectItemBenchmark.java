@@ -0,0 +1,61 @@
+package benchmark;
+
+import board.Board;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * collectItem con el tablero lleno de monedas hasta el máximo. Cada operación
+ * junta la moneda más cercana a un punto al azar y el robot repone una, así
+ * la densidad se mantiene estable durante la medición.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "--enable-preview")
+public class CollectItemBenchmark {
+
+    @Param({"10", "100", "1000"})
+    public int boardSize;
+
+    private Board board;
+
+    @Setup(Level.Iteration)
+    public void setup() {
+        board = new Board(boardSize);
+        while (board.canPlaceCoins() && board.placeCoins()) {
+            // Llenar hasta el máximo de casillas con monedas
+        }
+    }
+
+    @Benchmark
+    public Board.ItemType collectAndRespawn() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        Board.Position from = new Board.Position(random.nextInt(boardSize), random.nextInt(boardSize));
+        List<Board.Position> nearest = board.nearestItems(from, Board.ItemType.COIN, 1);
+
+        Board.ItemType collected = null;
+        if (!nearest.isEmpty()) {
+            Board.Position target = nearest.get(0);
+            collected = board.collectItem(target.getRow(), target.getCol());
+        }
+        board.placeCoins();
+        return collected;
+    }
+}
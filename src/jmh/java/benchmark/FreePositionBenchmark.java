@@ -0,0 +1,53 @@
+package benchmark;
+
+import board.Board;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * getRandomFreePosition según tamaño del tablero y porcentaje de casillas ocupadas.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "--enable-preview")
+public class FreePositionBenchmark {
+
+    @Param({"10", "100", "1000"})
+    public int boardSize;
+
+    @Param({"0.0", "0.5", "0.9"})
+    public double fill;
+
+    private Board board;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        board = new Board(boardSize);
+        int cells = boardSize * boardSize;
+        int occupied = (int) (cells * fill);
+        Object occupant = new Object();
+        for (int cell = 0; cell < occupied; cell++) {
+            board.tryOccupyCell(cell / boardSize, cell % boardSize, occupant);
+        }
+    }
+
+    @Benchmark
+    public Board.Position randomFreePosition() {
+        return board.getRandomFreePosition();
+    }
+}
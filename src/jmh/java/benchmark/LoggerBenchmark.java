@@ -0,0 +1,79 @@
+package benchmark;
+
+import game.EventType;
+import game.LogCategory;
+import game.LogLevel;
+import game.Logger;
+import game.OverflowPolicy;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Throughput de Logger con su hilo consumidor escribiendo a un archivo temporal.
+ * Con BLOCK mide la velocidad sostenida del escritor; con las otras políticas,
+ * el costo de publicar cuando la cola se llena.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "--enable-preview")
+public class LoggerBenchmark {
+
+    @Param({"BLOCK", "DROP_OLDEST", "COALESCE"})
+    public OverflowPolicy overflow;
+
+    private File file;
+    private Logger logger;
+    private Thread consumer;
+
+    @Setup(Level.Trial)
+    public void setup() throws IOException {
+        file = File.createTempFile("logger-bench", ".log");
+        logger = new Logger(file.getPath(), 16 * 1024, overflow);
+        logger.setConsoleEcho(false);
+        logger.configureLevels("DEBUG");
+        logger.start();
+        consumer = new Thread(logger, "logger-bench");
+        consumer.start();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws InterruptedException {
+        logger.stop();
+        consumer.join(5000);
+        file.delete();
+    }
+
+    @Benchmark
+    public void logText() {
+        logger.log(LogLevel.INFO, LogCategory.GAME, "Player 1 moved to (3,4)");
+    }
+
+    @Benchmark
+    public void logEvent() {
+        logger.event(EventType.PLAYER_MOVED, 1, 3, 4, 2);
+    }
+
+    /** Evento filtrado por nivel: debería costar casi nada. */
+    @Benchmark
+    public void logFilteredEvent() {
+        logger.event(EventType.CELL_MOVED, 1, 3, 4, 5, 6);
+    }
+}
@@ -0,0 +1,97 @@
+package benchmark;
+
+import board.Board;
+import entities.BfsPathPlanner;
+import entities.LShapedPathPlanner;
+import entities.PathPlanner;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Lo mismo que hace Player en cada turno para elegir destino: buscar las
+ * monedas más cercanas en el índice y planificar el camino hacia ellas.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "--enable-preview")
+public class PathPlanningBenchmark {
+    private static final int MAX_TARGETS = 8;
+    private static final int MAX_DICE = 6;
+
+    @Param({"10", "100", "1000"})
+    public int boardSize;
+
+    @Param({"BFS", "L_SHAPED"})
+    public String planner;
+
+    private Board board;
+    private PathPlanner pathPlanner;
+
+    /** Buffer de camino por hilo, como el pathBuffer de cada jugador. */
+    @State(Scope.Thread)
+    public static class PathBuffer {
+        private final int[] path = new int[MAX_DICE];
+        private final int[] targets = new int[MAX_TARGETS];
+        private final int[] distances = new int[MAX_TARGETS];
+    }
+
+    @Setup(Level.Trial)
+    public void setup() {
+        board = new Board(boardSize);
+        while (board.canPlaceCoins() && board.placeCoins()) {
+            // Monedas hasta el máximo
+        }
+        // Obstáculos: un 5% de casillas ocupadas por otros jugadores
+        Object other = new Object();
+        int occupied = boardSize * boardSize / 20;
+        for (int i = 0; i < occupied; i++) {
+            Board.Position pos = board.getRandomFreePosition();
+            if (pos != null) {
+                board.tryOccupyCell(pos.getRow(), pos.getCol(), other);
+            }
+        }
+        pathPlanner = planner.equals("BFS") ? new BfsPathPlanner() : new LShapedPathPlanner();
+    }
+
+    @Benchmark
+    public int nearestItemsAndPlan(PathBuffer buffer) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        int row = random.nextInt(boardSize);
+        int col = random.nextInt(boardSize);
+        int steps = random.nextInt(MAX_DICE) + 1;
+
+        // Como Player: casillas en arreglos reutilizados, sin crear Positions
+        int targets = board.nearestItems(row, col, Board.ItemType.COIN, buffer.targets, buffer.distances);
+        for (int i = 0; i < targets; i++) {
+            int target = buffer.targets[i];
+            int planned = pathPlanner.planTowards(board, row, col, target / boardSize, target % boardSize,
+                    steps, buffer.path);
+            if (planned > 0) return planned;
+        }
+        return pathPlanner.planAnyDirection(board, row, col, steps, buffer.path);
+    }
+
+    @Benchmark
+    public List<Board.Position> nearestItemsOnly() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        Board.Position from = new Board.Position(random.nextInt(boardSize), random.nextInt(boardSize));
+        return board.nearestItems(from, Board.ItemType.COIN, MAX_TARGETS);
+    }
+}
@@ -1,87 +1,57 @@
 
-import board.Board;
-import entities.CoinRobot;
-import entities.LifeRobot;
 import entities.Player;
-import entities.TrapRobot;
 import game.Display;
+import game.EntityPool;
 import game.GameConfig;
+import game.HeadlessRunner;
 import game.Logger;
+import game.Match;
+import game.MatchResult;
 
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Scanner;
-import java.util.concurrent.CountDownLatch;
-import java.util.concurrent.atomic.AtomicBoolean;
 
 public class Game {
-    private Board board;
+    private Match match;                    // Partida actual
     private Display display;
-    private Logger logger;
-    private List<Player> allPlayers;        // Todos los jugadores registrados
-    private List<Player> activePlayers;     // Jugadores de la partida actual
-    private List<Player> waitingPlayers;    // Jugadores esperando
-    private List<Thread> playerThreads;
-    private CountDownLatch startLatch;
-    private AtomicBoolean gameActive;
-    private AtomicBoolean gameEnded;
+    private GameConfig config;
+    private Logger logger;                  // Uno solo para todas las partidas
+    private EntityPool entityPool;          // Jugadores e hilos reutilizados
+    private List<Integer> allPlayers;       // Ids de todos los jugadores registrados
+    private List<Integer> waitingPlayers;   // Jugadores esperando
+    private String endReason;
     private int gameNumber;
 
-    // Robots
-    private LifeRobot lifeRobot;
-    private CoinRobot coinRobot;
-    private TrapRobot trapRobot;
-    private Thread lifeThread;
-    private Thread coinThread;
-    private Thread trapThread;
     private Thread displayThread;
     private Thread loggerThread;
 
-    public Game() {
+    public Game(GameConfig config) {
+        this.config = config;
         this.allPlayers = new ArrayList<>();
-        this.activePlayers = new ArrayList<>();
         this.waitingPlayers = new ArrayList<>();
-        this.playerThreads = new ArrayList<>();
-        this.gameActive = new AtomicBoolean(false);
-        this.gameEnded = new AtomicBoolean(false);
         this.gameNumber = 1;
 
-        initializeComponents();
+        this.logger = new Logger(config.getLogFile(), config.getLogQueueCapacity(), config.getLogOverflow());
+        logger.setConsoleEcho(config.isLogToConsole());
+        logger.configureLevels(config.getLogLevels());
+        this.entityPool = new EntityPool(config.getExecutionMode());
     }
 
-    private void initializeComponents() {
-        this.board = new Board(GameConfig.BOARD_SIZE);
-        this.logger = new Logger(GameConfig.LOG_FILE);
-        this.display = new Display(board);
-
-        // Conectar componentes
-        board.setDisplay(display);
-        board.setLogger(logger);
-        display.setLogger(logger);
-
-        // Crear robots
-        this.lifeRobot = new LifeRobot(board);
-        this.coinRobot = new CoinRobot(board);
-        this.trapRobot = new TrapRobot(board);
-
-        lifeRobot.setLogger(logger);
-        coinRobot.setLogger(logger);
-        trapRobot.setLogger(logger);
-
-        // Configurar robots
-        lifeRobot.setConfig(GameConfig.MAX_LIVES, GameConfig.LIFE_SLEEP_MIN, GameConfig.LIFE_SLEEP_MAX);
-        coinRobot.setConfig(GameConfig.COIN_SLEEP_MIN, GameConfig.COIN_SLEEP_MAX);
-        trapRobot.setConfig(GameConfig.TRAP_SLEEP_MIN, GameConfig.TRAP_SLEEP_MAX);
-    }
+    public static void main(String[] args) throws Exception {
+        // Sin preguntas por consola: java Game --headless --players=9 [--parallel]
+        if (HeadlessRunner.isHeadless(args)) {
+            System.exit(HeadlessRunner.fromArgs(args).run());
+        }
 
-    public static void main(String[] args) {
-        Game game = new Game();
+        // Perfil y valores sueltos: java Game --profile=large-headless --board.size=50
+        Game game = new Game(GameConfig.fromOptions(GameConfig.parseArgs(args)));
         game.run();
     }
 
     public void run() {
         System.out.println("=== CONCURRENT BOARD GAME ===");
-        GameConfig.print();
+        config.print();
 
         // Iniciar sistema
         startSystemThreads();
@@ -109,30 +79,26 @@ public class Game {
         logger.start();
         loggerThread = new Thread(logger);
         loggerThread.start();
-
-        display.start();
-        displayThread = new Thread(display);
-        displayThread.start();
     }
 
     private void registerAllPlayers() {
         Scanner scanner = new Scanner(System.in);
 
         System.out.println("=== PLAYER REGISTRATION ===");
-        System.out.println("Minimum players per game: " + GameConfig.MIN_PLAYERS);
-        System.out.println("Additional players must be in groups of " + GameConfig.MIN_PLAYERS);
+        System.out.println("Minimum players per game: " + config.getMinPlayers());
+        System.out.println("Additional players must be in groups of " + config.getMinPlayers());
         System.out.println("(3, 6, 9, 12... players total)");
 
         while (true) {
             System.out.println("\nCurrent registered players: " + allPlayers.size());
 
             if (allPlayers.size() > 0) {
-                int gamesReady = allPlayers.size() / GameConfig.MIN_PLAYERS;
-                int playersWaiting = allPlayers.size() % GameConfig.MIN_PLAYERS;
+                int gamesReady = allPlayers.size() / config.getMinPlayers();
+                int playersWaiting = allPlayers.size() % config.getMinPlayers();
                 System.out.println("Games ready: " + gamesReady);
                 if (playersWaiting > 0) {
                     System.out.println("Players waiting for next group: " + playersWaiting +
-                            " (need " + (GameConfig.MIN_PLAYERS - playersWaiting) + " more)");
+                            " (need " + (config.getMinPlayers() - playersWaiting) + " more)");
                 }
             }
 
@@ -142,73 +108,60 @@ public class Game {
             if (input.toLowerCase().equals("y")) {
                 addPlayerToRegistry();
             } else if (input.toLowerCase().equals("n")) {
-                if (allPlayers.size() >= GameConfig.MIN_PLAYERS) {
+                if (allPlayers.size() >= config.getMinPlayers()) {
                     break;
                 } else {
-                    System.out.println("Need at least " + GameConfig.MIN_PLAYERS + " players to start!");
+                    System.out.println("Need at least " + config.getMinPlayers() + " players to start!");
                 }
             }
         }
 
-        int totalGames = allPlayers.size() / GameConfig.MIN_PLAYERS;
-        int leftover = allPlayers.size() % GameConfig.MIN_PLAYERS;
+        int totalGames = allPlayers.size() / config.getMinPlayers();
+        int leftover = allPlayers.size() % config.getMinPlayers();
 
         System.out.println("\n=== REGISTRATION COMPLETE ===");
         System.out.println("Total players: " + allPlayers.size());
         System.out.println("Games possible: " + totalGames);
         if (leftover > 0) {
-            System.out.println("Players that won't play: " + leftover + " (need groups of " + GameConfig.MIN_PLAYERS + ")");
+            System.out.println("Players that won't play: " + leftover + " (need groups of " + config.getMinPlayers() + ")");
         }
     }
 
     private void addPlayerToRegistry() {
         int playerId = allPlayers.size() + 1;
-        Player player = new Player(playerId, board);
-        player.setLogger(logger);
-        player.setSleepTime(GameConfig.PLAYER_SLEEP_MIN, GameConfig.PLAYER_SLEEP_MAX);
-
-        allPlayers.add(player);
-        System.out.println("Player " + playerId + " " + player.getPlayerEmoji() + " registered");
+        allPlayers.add(playerId);
+        System.out.println("Player " + playerId + " " + Player.emojiFor(playerId) + " registered");
     }
 
     private boolean hasEnoughPlayersForGame() {
-        int playersLeft = allPlayers.size() - ((gameNumber - 1) * GameConfig.MIN_PLAYERS);
-        return playersLeft >= GameConfig.MIN_PLAYERS;
+        int playersLeft = allPlayers.size() - ((gameNumber - 1) * config.getMinPlayers());
+        return playersLeft >= config.getMinPlayers();
     }
 
     private void prepareNextGame() {
         // Limpiar estado anterior
-        activePlayers.clear();
-        playerThreads.clear();
         waitingPlayers.clear();
-        gameActive.set(false);
-        gameEnded.set(false);
-
-        // Reiniciar componentes para nueva partida
-        if (gameNumber > 1) {
-            initializeComponents();
-        }
 
         // Seleccionar jugadores para esta partida
-        int startIndex = (gameNumber - 1) * GameConfig.MIN_PLAYERS;
-        for (int i = startIndex; i < startIndex + GameConfig.MIN_PLAYERS && i < allPlayers.size(); i++) {
-            Player player = allPlayers.get(i);
-            // Recrear player con mismo ID y emoji pero estado limpio
-            Player gamePlayer = new Player(player.getId(), board);
-            gamePlayer.setLogger(logger);
-            gamePlayer.setSleepTime(GameConfig.PLAYER_SLEEP_MIN, GameConfig.PLAYER_SLEEP_MAX);
-            activePlayers.add(gamePlayer);
-        }
+        int startIndex = (gameNumber - 1) * config.getMinPlayers();
+        int endIndex = Math.min(startIndex + config.getMinPlayers(), allPlayers.size());
+        List<Integer> playerIds = new ArrayList<>(allPlayers.subList(startIndex, endIndex));
+
+        // Tablero y jugadores nuevos; el logger es el mismo
+        match = new Match(gameNumber, playerIds, logger, entityPool, config);
+        display = new Display(match.getBoard(), config);
+        display.setLogger(logger);
+        match.setDisplay(display);
 
         // Calcular jugadores esperando
-        int totalPlayersUsed = gameNumber * GameConfig.MIN_PLAYERS;
+        int totalPlayersUsed = gameNumber * config.getMinPlayers();
         for (int i = totalPlayersUsed; i < allPlayers.size(); i++) {
             waitingPlayers.add(allPlayers.get(i));
         }
 
         System.out.println("\n=== GAME " + gameNumber + " ===");
         System.out.print("Players: ");
-        for (Player p : activePlayers) {
+        for (Player p : match.getPlayers()) {
             System.out.print(p.getId() + " " + p.getPlayerEmoji() + " ");
         }
         System.out.println();
@@ -222,157 +175,77 @@ public class Game {
         System.out.print("Press Enter to start Game " + gameNumber + "...");
         scanner.nextLine();
 
-        startLatch = new CountDownLatch(1);
-        gameActive.set(true);
-
-        // Crear hilos de jugadores
-        for (Player player : activePlayers) {
-            Thread thread = new Thread(player);
-            playerThreads.add(thread);
-            thread.start();
-        }
-
-        // Iniciar robots
-        lifeThread = new Thread(lifeRobot);
-        coinThread = new Thread(coinRobot);
-        trapThread = new Thread(trapRobot);
-
-        lifeRobot.startGame();
-        coinRobot.startGame();
-        trapRobot.startGame();
-
-        lifeThread.start();
-        coinThread.start();
-        trapThread.start();
-
-        // Iniciar jugadores
-        for (Player player : activePlayers) {
-            player.startGame();
-        }
+        // Display de esta partida
+        display.start();
+        displayThread = new Thread(display);
+        displayThread.start();
 
-        logger.logGameStart(GameConfig.BOARD_SIZE, activePlayers.size());
+        match.start();
         display.showGameStart();
 
         System.out.println("Game " + gameNumber + " started!");
     }
 
     private void monitorGame() {
-        long gameStartTime = System.currentTimeMillis();
-
-        while (gameActive.get()) {
-            try {
-                Thread.sleep(1000);
-
-                // Verificar tiempo límite
-                long elapsed = System.currentTimeMillis() - gameStartTime;
-                if (elapsed >= GameConfig.GAME_TIME_LIMIT) {
-                    logger.log("Time limit reached for Game " + gameNumber);
-                    break;
-                }
-
-                // Verificar si solo queda un jugador vivo
-                int alivePlayers = 0;
-                for (Player p : activePlayers) {
-                    if (p.isAlive()) alivePlayers++;
-                }
-
-                if (alivePlayers <= 1) {
-                    logger.log("Only one player remaining in Game " + gameNumber);
-                    break;
-                }
-
-            } catch (InterruptedException e) {
-                break;
-            }
-        }
+        endReason = match.awaitEnd();
     }
 
     private void endGame() {
-        gameActive.set(false);
-        gameEnded.set(true);
+        // Detener jugadores y generación de items y esperar los hilos
+        MatchResult result = match.finish(endReason);
 
-        // Detener jugadores
-        for (Player player : activePlayers) {
-            player.stopGame();
-        }
+        // El display de esta partida ya no recibe cambios
+        stopDisplay();
 
-        // Detener robots
-        lifeRobot.stopGame();
-        coinRobot.stopGame();
-        trapRobot.stopGame();
-
-        // Esperar que terminen los hilos
-        waitForThreads();
-
-        // Mostrar resultados
-        showResults();
+        // Mostrar resultados y devolver los jugadores al pool
+        showResults(result);
+        match.recycle();
 
         gameNumber++;
     }
 
-    private void waitForThreads() {
+    private void stopDisplay() {
+        display.stop();
         try {
-            for (Thread thread : playerThreads) {
-                thread.join(1000);
-            }
-
-            lifeThread.join(1000);
-            coinThread.join(1000);
-            trapThread.join(1000);
-
+            displayThread.join(2000);
         } catch (InterruptedException e) {
             // Ignorar
         }
     }
 
-    private void showResults() {
-        // Encontrar ganador
-        Player winner = null;
-        int maxCoins = -1;
-
-        for (Player p : activePlayers) {
-            if (p.isAlive() && p.getCoins() > maxCoins) {
-                maxCoins = p.getCoins();
-                winner = p;
-            }
-        }
-
-        // Mostrar resultados
+    private void showResults(MatchResult result) {
         System.out.println("\n=== GAME " + (gameNumber) + " RESULTS ===");
-        display.showResults(activePlayers);
-        logger.logResults(activePlayers);
+        display.showResults(match.getPlayers());
 
-        if (winner != null) {
-            display.showWinner(winner);
-            logger.logWinner(winner);
+        if (match.getWinner() != null) {
+            display.showWinner(match.getWinner());
         } else {
             System.out.println("No winner - all players died!");
-            logger.log("No winner - all players died in Game " + gameNumber);
         }
 
         display.showGameEnd();
-        logger.logGameEnd("Game " + gameNumber + " completed");
+        System.out.println(result);
     }
 
     private boolean askForNextGame() {
         Scanner scanner = new Scanner(System.in);
 
-        int playersUsed = (gameNumber - 1) * GameConfig.MIN_PLAYERS; // Usar gameNumber-1 porque ya se incrementó
+        int playersUsed = (gameNumber - 1) * config.getMinPlayers(); // Usar gameNumber-1 porque ya se incrementó
         int playersLeft = allPlayers.size() - playersUsed;
 
         System.out.println("\n=== NEXT GAME OPTION ===");
         System.out.println("Players waiting: " + playersLeft);
 
-        if (playersLeft >= GameConfig.MIN_PLAYERS) {
+        if (playersLeft >= config.getMinPlayers()) {
             // Hay suficientes jugadores para otra partida completa
-            int gamesRemaining = playersLeft / GameConfig.MIN_PLAYERS;
+            int gamesRemaining = playersLeft / config.getMinPlayers();
             System.out.println("Games remaining possible: " + gamesRemaining);
             System.out.print("Start next game? (y/n): ");
             String input = scanner.nextLine();
             return input.toLowerCase().equals("y");
         } else if (playersLeft > 0) {
             // Hay jugadores esperando pero no suficientes para una partida completa
-            int needed = GameConfig.MIN_PLAYERS - playersLeft;
+            int needed = config.getMinPlayers() - playersLeft;
             System.out.println("Need " + needed + " more players for another complete game.");
             System.out.print("Add " + needed + " more players for next game? (y/n): ");
             String input = scanner.nextLine();
@@ -395,11 +268,10 @@ public class Game {
     }
 
     private void shutdownSystem() {
-        display.stop();
+        entityPool.shutdown();
         logger.stop();
 
         try {
-            displayThread.join(2000);
             loggerThread.join(2000);
         } catch (InterruptedException e) {
             // Ignorar
@@ -2,53 +2,131 @@ package board;
 
 import entities.Player;
 import game.Display;
+import game.EventType;
+import game.GameConfig;
 import game.Logger;
 
-import java.util.concurrent.locks.ReentrantReadWriteLock;
-import java.util.concurrent.Semaphore;
-import java.util.concurrent.atomic.AtomicInteger;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.ToIntFunction;
 import java.util.Random;
-import java.util.List;
 import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
 
 public class Board {
     private int size;
-    private Cell[][] grid;
-    private ReentrantReadWriteLock lock;
+    private CellStore cells;
     private Random random;
     private Display display;
     private Logger logger;
 
-    // Contadores
-    private AtomicInteger livesCount;
-    private AtomicInteger coinsCount;
-    private AtomicInteger trapsCount;
-    private AtomicInteger coinCells;
+    // Regiones del tablero, cada una con sus índices de casillas libres
+    // (sin ocupante / sin ocupante ni item), sus contadores y su parte de los
+    // máximos de items. Sin board.tileSize hay una sola región que cubre todo.
+    private BoardTile[] tiles;
+    private int tileSize;
+    private int tilesPerSide;
+
+    // Índice espacial de items para buscar los más cercanos
+    private ItemIndex itemIndex;
+
+    // Un aviso por tipo de item, se dispara cada vez que se saca uno
+    private ItemSignal[] takenSignals;
 
-    // Semáforos para cada casilla
-    private Semaphore[][] cellLocks;
+    // Snapshots: cada escritura incrementa started de su región antes y finished después.
+    // Un lector copia sin locks y valida que no haya empezado ninguna escritura; si
+    // no lo logra en SNAPSHOT_RETRIES intentos cierra writeGate y copia con las
+    // escrituras frenadas (solo mientras dura esa copia).
+    private static final int SNAPSHOT_RETRIES = 16;
+    private volatile BoardSnapshot lastSnapshot;
+    private volatile boolean writeGate;
+    private final Object gateLock = new Object();
+
+    // Límites de items (máximo de casillas con monedas y con trampas) y valores de monedas
+    private int maxItemCells;
+    private int[] coinValues;
 
     public Board(int size) {
+        this(size, StorageMode.OBJECT);
+    }
+
+    public Board(int size, StorageMode storageMode) {
+        this(size, storageMode, GameConfig.defaults());
+    }
+
+    public Board(GameConfig config) {
+        this(config.getBoardSize(), config.isPackedBoard() ? StorageMode.PACKED : StorageMode.OBJECT, config);
+    }
+
+    private Board(int size, StorageMode storageMode, GameConfig config) {
         this.size = size;
-        this.lock = new ReentrantReadWriteLock();
-        this.random = new Random();
-        this.livesCount = new AtomicInteger(0);
-        this.coinsCount = new AtomicInteger(0);
-        this.trapsCount = new AtomicInteger(0);
-        this.coinCells = new AtomicInteger(0);
+        this.maxItemCells = (int) (size * size * config.getItemDensity());
+        this.coinValues = config.getCoinValues();
+        this.tileSize = config.getTileSize() > 0 && config.getTileSize() < size ? config.getTileSize() : size;
+        this.tilesPerSide = (size + tileSize - 1) / tileSize;
+        // Con regiones cada hilo usa su propio Random, salvo que se llame a setRandom
+        this.random = tilesPerSide == 1 ? new Random() : null;
 
         // Inicializar grid
-        this.grid = new Cell[size][size];
-        this.cellLocks = new Semaphore[size][size];
+        if (storageMode == StorageMode.PACKED) {
+            this.cells = new PackedCellStore(size * size);
+        } else {
+            this.cells = new ObjectCellStore(size * size);
+        }
 
-        for (int i = 0; i < size; i++) {
-            for (int j = 0; j < size; j++) {
-                grid[i][j] = new Cell();
-                cellLocks[i][j] = new Semaphore(1);
-            }
+        this.tiles = createTiles();
+        this.itemIndex = new ItemIndex(size);
+        this.takenSignals = new ItemSignal[ItemType.values().length];
+        for (int i = 0; i < takenSignals.length; i++) {
+            takenSignals[i] = new ItemSignal();
         }
     }
 
+    /**
+     * Reparte el máximo de items entre las regiones en proporción a su
+     * cantidad de casillas; el resto de la división va a las primeras.
+     */
+    private BoardTile[] createTiles() {
+        int count = tilesPerSide * tilesPerSide;
+        long totalCells = (long) size * size;
+        int[] shares = new int[count];
+        int assigned = 0;
+
+        for (int i = 0; i < count; i++) {
+            shares[i] = (int) (maxItemCells * (long) (tileRows(i) * tileCols(i)) / totalCells);
+            assigned += shares[i];
+        }
+        for (int i = 0; assigned < maxItemCells; i = (i + 1) % count) {
+            shares[i]++;
+            assigned++;
+        }
+
+        // Cada región se crea una sola vez, con su parte ya calculada
+        BoardTile[] created = new BoardTile[count];
+        for (int i = 0; i < count; i++) {
+            created[i] = new BoardTile((i / tilesPerSide) * tileSize, (i % tilesPerSide) * tileSize,
+                    tileRows(i), tileCols(i), shares[i]);
+        }
+        return created;
+    }
+
+    private int tileRows(int tile) {
+        return Math.min(tileSize, size - (tile / tilesPerSide) * tileSize);
+    }
+
+    private int tileCols(int tile) {
+        return Math.min(tileSize, size - (tile % tilesPerSide) * tileSize);
+    }
+
+    /** Para simulaciones reproducibles: reemplaza el Random del tablero. */
+    public void setRandom(Random random) {
+        this.random = random;
+    }
+
     public void setDisplay(Display display) {
         this.display = display;
     }
@@ -57,9 +135,29 @@ public class Board {
         this.logger = logger;
     }
 
+    private BoardTile tileOf(int cell) {
+        if (tiles.length == 1) return tiles[0];
+        return tiles[(cell / size / tileSize) * tilesPerSide + (cell % size) / tileSize];
+    }
+
+    private Random random() {
+        Random r = random;
+        return r != null ? r : ThreadLocalRandom.current();
+    }
+
     // Clase Cell simplificada
     public static class Cell {
-        private Object occupant;
+        private static final VarHandle OCCUPANT;
+        static {
+            try {
+                OCCUPANT = MethodHandles.lookup().findVarHandle(Cell.class, "occupant", Object.class);
+            } catch (ReflectiveOperationException e) {
+                throw new ExceptionInInitializerError(e);
+            }
+        }
+
+        // El ocupante se cambia solo por CAS, sin monitor
+        private volatile Object occupant;
         private ItemType item;
         private int quantity;
 
@@ -69,7 +167,7 @@ public class Board {
             this.quantity = 0;
         }
 
-        public synchronized boolean isEmpty() {
+        public boolean isEmpty() {
             return occupant == null;
         }
 
@@ -77,8 +175,16 @@ public class Board {
             return item != null;
         }
 
-        public synchronized Object getOccupant() { return occupant; }
-        public synchronized void setOccupant(Object occ) { this.occupant = occ; }
+        public Object getOccupant() { return occupant; }
+
+        // null no es un ocupante: "tomar" la casilla con null no la ocuparía
+        public boolean tryOccupy(Object occ) {
+            return occ != null && OCCUPANT.compareAndSet(this, null, occ);
+        }
+
+        public boolean release(Object occ) {
+            return occ != null && OCCUPANT.compareAndSet(this, occ, null);
+        }
         public synchronized ItemType getItem() { return item; }
         public synchronized int getQuantity() { return quantity; }
         public synchronized void setItem(ItemType type, int qty) {
@@ -89,12 +195,38 @@ public class Board {
             this.item = null;
             this.quantity = 0;
         }
+
+        /** Lee y limpia el item bajo el mismo monitor. */
+        public synchronized TakenItem takeItem() {
+            if (item == null) return null;
+            TakenItem taken = new TakenItem(item, quantity);
+            this.item = null;
+            this.quantity = 0;
+            return taken;
+        }
     }
 
     public enum ItemType {
         COIN, LIFE, TRAP
     }
 
+    /**
+     * OBJECT: un objeto Cell por casilla.
+     * PACKED: ocupante, item y cantidad empaquetados en un long por casilla,
+     * pensado para tableros grandes.
+     */
+    public enum StorageMode {
+        OBJECT, PACKED
+    }
+
+    /**
+     * Se llama después de cada paso confirmado de moveAlong.
+     * Devolver false corta el recorrido.
+     */
+    public interface StepListener {
+        boolean onStep(int row, int col);
+    }
+
     public static class Position {
         private int row, col;
 
@@ -112,249 +244,736 @@ public class Board {
         }
     }
 
+    /**
+     * Item sacado de una casilla con takeItem: tipo y cantidad leídos juntos.
+     */
+    public static class TakenItem {
+        private final ItemType type;
+        private final int quantity;
+
+        public TakenItem(ItemType type, int quantity) {
+            this.type = type;
+            this.quantity = quantity;
+        }
+
+        public ItemType getType() { return type; }
+        public int getQuantity() { return quantity; }
+    }
+
     // Métodos para jugadores
     public Position getRandomFreePosition() {
-        List<Position> free = new ArrayList<>();
-
-        lock.readLock().lock();
-        try {
-            for (int i = 0; i < size; i++) {
-                for (int j = 0; j < size; j++) {
-                    if (grid[i][j].isEmpty()) {
-                        free.add(new Position(i, j));
-                    }
-                }
+        Random rnd = random();
+        int start = tiles.length == 1 ? 0 : rnd.nextInt(tiles.length);
+
+        // Región al azar; si está llena se prueba con las siguientes
+        for (int i = 0; i < tiles.length; i++) {
+            BoardTile tile = tiles[(start + i) % tiles.length];
+            int local = tile.freeCells.pickRandom(rnd);
+            if (local >= 0) {
+                int cell = tile.global(local, size);
+                return new Position(cell / size, cell % size);
             }
-        } finally {
-            lock.readLock().unlock();
         }
-
-        if (free.isEmpty()) return null;
-        return free.get(random.nextInt(free.size()));
+        return null;
     }
 
     public boolean tryOccupyCell(int row, int col, Object occupant) {
         if (!isValid(row, col)) return false;
 
-        if (!cellLocks[row][col].tryAcquire()) {
-            return false; // Ya ocupada
-        }
-
-        if (!grid[row][col].isEmpty()) {
-            cellLocks[row][col].release();
-            return false;
+        int cell = cellIndex(row, col);
+        BoardTile tile = tileOf(cell);
+        beginWrite(tile);
+        try {
+            if (!cells.tryOccupy(cell, occupant)) {
+                return false; // Ya ocupada
+            }
+        } finally {
+            endWrite(tile);
         }
 
-        grid[row][col].setOccupant(occupant);
+        syncIndexes(tile, cell);
 
         if (display != null) {
-            display.updateCell(row, col, occupant, grid[row][col].getItem(), grid[row][col].getQuantity());
+            display.updateCell(row, col, occupant, cells.getItem(cell), cells.getQuantity(cell));
         }
 
-        log("Cell " + row + "," + col + " occupied");
+        event(EventType.CELL_OCCUPIED, actorId(occupant), row, col);
         return true;
     }
 
     public void releaseCell(int row, int col, Object occupant) {
         if (!isValid(row, col)) return;
 
-        if (grid[row][col].getOccupant() == occupant) {
-            grid[row][col].setOccupant(null);
+        int cell = cellIndex(row, col);
+        BoardTile tile = tileOf(cell);
+        boolean released;
+        beginWrite(tile);
+        try {
+            released = cells.release(cell, occupant);
+        } finally {
+            endWrite(tile);
+        }
+
+        if (released) {
+            syncIndexes(tile, cell);
 
             if (display != null) {
-                display.updateCell(row, col, null, grid[row][col].getItem(), grid[row][col].getQuantity());
+                display.updateCell(row, col, null, cells.getItem(cell), cells.getQuantity(cell));
             }
 
-            log("Cell " + row + "," + col + " released");
+            event(EventType.CELL_RELEASED, actorId(occupant), row, col);
         }
+    }
 
-        cellLocks[row][col].release();
+    /**
+     * Mueve un ocupante de una casilla a otra. Primero toma la casilla destino
+     * y recién después suelta la de origen, así el ocupante nunca queda sin
+     * casilla: si el destino está ocupado no se modifica nada.
+     */
+    public boolean tryMove(int fromRow, int fromCol, int toRow, int toCol, Object occupant) {
+        if (!isValid(fromRow, fromCol) || !isValid(toRow, toCol)) return false;
+
+        if (!commitStep(cellIndex(fromRow, fromCol), cellIndex(toRow, toCol), occupant)) {
+            return false;
+        }
+
+        publishMove(fromRow, fromCol, toRow, toCol, occupant);
+        return true;
     }
 
-    public ItemType collectItem(int row, int col) {
-        if (!isValid(row, col)) return null;
+    public boolean moveOccupant(Object occupant, Position from, Position to) {
+        return tryMove(from.getRow(), from.getCol(), to.getRow(), to.getCol(), occupant);
+    }
 
-        Cell cell = grid[row][col];
-        if (!cell.hasItem()) return null;
+    /**
+     * Recorre un camino paso a paso. Cada paso se confirma de forma atómica
+     * y se avisa al listener (por ejemplo para recoger items); el recorrido
+     * se corta si una casilla está ocupada o si el listener devuelve false.
+     * Se publica un único evento desde el origen hasta la casilla final.
+     *
+     * @param path casillas del camino como row * size + col, sin el origen
+     * @param length cantidad de casillas válidas en path
+     * @return cantidad de pasos realizados
+     */
+    public int moveAlong(Object occupant, int fromRow, int fromCol, int[] path, int length, StepListener listener) {
+        if (!isValid(fromRow, fromCol)) return 0;
+
+        int current = cellIndex(fromRow, fromCol);
+        int steps = 0;
+
+        for (int i = 0; i < length; i++) {
+            int target = path[i];
+            if (target < 0 || target >= size * size) break;
+            if (!commitStep(current, target, occupant)) break;
+
+            current = target;
+            steps++;
+
+            if (listener != null && !listener.onStep(target / size, target % size)) break;
+        }
 
-        ItemType type = cell.getItem();
-        int qty = cell.getQuantity();
+        if (steps > 0) {
+            publishMove(fromRow, fromCol, current / size, current % size, occupant);
+        }
+        return steps;
+    }
 
-        // Actualizar contadores
-        if (type == ItemType.COIN) {
-            coinsCount.addAndGet(-qty);
-            coinCells.decrementAndGet();
-        } else if (type == ItemType.LIFE) {
-            livesCount.decrementAndGet();
+    /**
+     * Un paso de un ocupante. Si cruza de región, la escritura se anota en las
+     * dos (un snapshot no puede verla a medias) y después cada región actualiza
+     * sus índices por separado: nunca se toman dos monitores a la vez. Como la
+     * casilla destino se toma antes de soltar la de origen, ningún otro hilo
+     * puede quedarse con ninguna de las dos mientras tanto.
+     */
+    private boolean commitStep(int from, int to, Object occupant) {
+        if (cells.getOccupant(from) != occupant) return false;
+
+        BoardTile fromTile = tileOf(from);
+        BoardTile toTile = tileOf(to);
+        boolean crossing = fromTile != toTile;
+
+        beginWrite(toTile, crossing ? fromTile : null);
+        try {
+            if (!cells.tryOccupy(to, occupant)) {
+                return false;
+            }
+            cells.release(from, occupant);
+        } finally {
+            if (crossing) endWrite(fromTile);
+            endWrite(toTile);
         }
 
-        cell.clearItem();
+        syncIndexes(toTile, to);
+        syncIndexes(fromTile, from);
+        return true;
+    }
+
+    /**
+     * Deja los índices de la región de acuerdo con el estado actual de la
+     * casilla. El estado se lee con el monitor del índice tomado: si dos
+     * hilos cambian la misma casilla (uno la suelta y otro la ocupa), el
+     * último en actualizar ve el último cambio y el índice no queda al revés.
+     */
+    private void syncIndexes(BoardTile tile, int cell) {
+        int local = tile.local(cell, size);
+        synchronized (tile.freeCells) {
+            tile.freeCells.set(local, cells.isEmpty(cell));
+        }
+        syncSpawnIndex(tile, cell, local);
+    }
+
+    private void syncSpawnIndex(BoardTile tile, int cell, int local) {
+        synchronized (tile.spawnCells) {
+            tile.spawnCells.set(local, cells.isEmpty(cell) && !cells.hasItem(cell));
+        }
+    }
+
+    private void publishMove(int fromRow, int fromCol, int toRow, int toCol, Object occupant) {
+        if (display != null) {
+            int from = cellIndex(fromRow, fromCol);
+            int to = cellIndex(toRow, toCol);
+            display.updateMove(fromRow, fromCol, cells.getItem(from), cells.getQuantity(from),
+                    toRow, toCol, occupant, cells.getItem(to), cells.getQuantity(to));
+        }
+
+        event(EventType.CELL_MOVED, actorId(occupant), fromRow, fromCol, toRow, toCol);
+    }
+
+    public ItemType collectItem(int row, int col) {
+        TakenItem taken = takeItem(row, col);
+        return taken != null ? taken.getType() : null;
+    }
+
+    /**
+     * Saca el item de la casilla y devuelve tipo y cantidad juntos.
+     * Si dos jugadores llegan a la vez solo uno se lo lleva, y los
+     * contadores se actualizan una sola vez.
+     *
+     * @return el item sacado, o null si la casilla no tenía nada
+     */
+    public TakenItem takeItem(int row, int col) {
+        if (!isValid(row, col)) return null;
+
+        int cell = cellIndex(row, col);
+        BoardTile tile = tileOf(cell);
+        TakenItem taken;
+
+        beginWrite(tile);
+        try {
+            taken = cells.takeItem(cell);
+            if (taken == null) return null;
+            // Antes de que la casilla pueda volver al índice de spawn y recibir otro item
+            itemIndex.remove(taken.getType(), cell);
+
+            // Actualizar contadores
+            if (taken.getType() == ItemType.COIN) {
+                tile.coinsCount.addAndGet(-taken.getQuantity());
+                tile.coinCells.decrementAndGet();
+                tile.release(ItemType.COIN);
+            } else if (taken.getType() == ItemType.LIFE) {
+                tile.livesCount.decrementAndGet();
+            }
+        } finally {
+            endWrite(tile);
+        }
+        syncSpawnIndex(tile, cell, tile.local(cell, size));
+        takenSignals[taken.getType().ordinal()].fire();
 
         if (display != null) {
-            display.updateCell(row, col, cell.getOccupant(), null, 0);
+            display.updateCell(row, col, cells.getOccupant(cell), null, 0);
         }
 
-        log("Collected " + type + " (" + qty + ") at " + row + "," + col);
-        return type;
+        event(EventType.ITEM_COLLECTED, actorId(cells.getOccupant(cell)), row, col,
+                taken.getType().ordinal(), taken.getQuantity());
+        return taken;
     }
 
     public boolean isCellOccupied(int row, int col) {
         if (!isValid(row, col)) return true;
-        return !grid[row][col].isEmpty();
+        return !cells.isEmpty(cellIndex(row, col));
     }
 
     public ItemType getItemType(int row, int col) {
         if (!isValid(row, col)) return null;
-        return grid[row][col].getItem();
+        return cells.getItem(cellIndex(row, col));
     }
 
     public int getItemQuantity(int row, int col) {
         if (!isValid(row, col)) return 0;
-        return grid[row][col].getQuantity();
+        return cells.getQuantity(cellIndex(row, col));
+    }
+
+    /**
+     * Hasta k posiciones con items del tipo pedido, de la más cercana
+     * a la más lejana (distancia Manhattan).
+     */
+    public List<Position> nearestItems(Position from, ItemType type, int k) {
+        return itemIndex.nearest(from.getRow(), from.getCol(), type, k);
+    }
+
+    /**
+     * Como nearestItems(from, type, k) con k = cells.length, sin crear
+     * objetos: deja las casillas (row * size + col) en cells, de la más
+     * cercana a la más lejana. distances es un arreglo de trabajo del mismo largo.
+     *
+     * @return cantidad de casillas encontradas
+     */
+    public int nearestItems(int row, int col, ItemType type, int[] cells, int[] distances) {
+        if (distances.length < cells.length) {
+            throw new IllegalArgumentException("distances must be at least as long as cells");
+        }
+        return itemIndex.nearest(row, col, type, cells, distances);
     }
 
-    // Métodos para robots
+    // Métodos para colocar items
     public boolean placeLife() {
-        Position pos = getRandomFreeSpot();
-        if (pos == null) return false;
+        return placeItem(ItemType.LIFE, 1);
+    }
+
+    public boolean placeCoins() {
+        return placeItem(ItemType.COIN, coinValues[random().nextInt(coinValues.length)]);
+    }
+
+    public boolean placeTrap() {
+        return placeItem(ItemType.TRAP, 1);
+    }
 
-        grid[pos.getRow()][pos.getCol()].setItem(ItemType.LIFE, 1);
-        livesCount.incrementAndGet();
+    /**
+     * Coloca un item en una casilla libre al azar. Las monedas y las trampas
+     * respetan el máximo de la densidad configurada, repartido por región.
+     * Nunca espera al log: si la cola está llena el evento ITEM_PLACED se descarta.
+     *
+     * @return false si no hay lugar o ya se llegó al máximo
+     */
+    public boolean placeItem(ItemType type, int quantity) {
+        int cell = claimFreeSpot(type);
+        if (cell < 0) return false;
+        int row = cell / size;
+        int col = cell % size;
+
+        BoardTile tile = tileOf(cell);
+        beginWrite(tile);
+        try {
+            // Primero el índice: en cuanto el item está en la casilla alguien lo
+            // puede sacar, y su itemIndex.remove tiene que encontrar la entrada
+            itemIndex.add(type, cell);
+            cells.setItem(cell, type, quantity);
+            switch (type) {
+                case COIN:
+                    tile.coinsCount.addAndGet(quantity);
+                    tile.coinCells.incrementAndGet();
+                    break;
+                case LIFE:
+                    tile.livesCount.incrementAndGet();
+                    break;
+                case TRAP:
+                    tile.trapsCount.incrementAndGet();
+                    break;
+            }
+        } finally {
+            endWrite(tile);
+        }
+        // La casilla ya tiene el item: deja de estar tomada y el índice la sigue como a cualquier otra
+        int local = tile.local(cell, size);
+        tile.spawnCells.unclaim(local);
+        syncSpawnIndex(tile, cell, local);
 
         if (display != null) {
-            display.updateCell(pos.getRow(), pos.getCol(), null, ItemType.LIFE, 1);
+            display.updateCell(row, col, null, type, quantity);
         }
 
-        log("Life placed at " + pos);
+        // Lo llama el generador de items compartido por todas las partidas: no
+        // puede quedar esperando una cola de log llena, el evento se descarta
+        if (logger != null) {
+            logger.tryEvent(EventType.ITEM_PLACED, -1, row, col, type.ordinal(), quantity);
+        }
         return true;
     }
 
-    public boolean placeCoins() {
-        // Máximo 10% de casillas con monedas
-        if (coinCells.get() >= size * size * 0.1) {
-            return false;
+    /**
+     * Versión del aviso de items sacados de ese tipo; se lee antes de revisar
+     * el máximo y se pasa a onItemTaken.
+     */
+    public long getItemsTakenVersion(ItemType type) {
+        return takenSignals[type.ordinal()].version();
+    }
+
+    /**
+     * Corre callback una sola vez, cuando alguien saque un item de ese tipo
+     * después de leer seenVersion (enseguida si ya pasó). Lo usa el
+     * generador de items que llegó a su máximo, en lugar de revisar cada tanto.
+     * El callback corre en el hilo que sacó el item: tiene que ser corto.
+     */
+    public void onItemTaken(ItemType type, long seenVersion, Runnable callback) {
+        takenSignals[type.ordinal()].whenFired(seenVersion, callback);
+    }
+
+    /**
+     * Toma una casilla sin ocupante ni item y la marca en el índice de spawn,
+     * así dos robots no pueden elegir la misma casilla aunque un jugador la
+     * pise y la suelte antes de que llegue el item. Empieza por una región
+     * al azar y saltea las que ya llenaron su parte del máximo de ese item;
+     * el lugar en la parte se reserva antes de buscar la casilla.
+     *
+     * @return la casilla (row * size + col) o -1 si no hay lugar
+     */
+    private int claimFreeSpot(ItemType type) {
+        Random rnd = random();
+        int start = tiles.length == 1 ? 0 : rnd.nextInt(tiles.length);
+
+        for (int i = 0; i < tiles.length; i++) {
+            BoardTile tile = tiles[(start + i) % tiles.length];
+            if (!tile.reserve(type)) continue;
+
+            for (int attempt = 0; attempt < 5; attempt++) {
+                int local = tile.spawnCells.pickRandom(rnd);
+                if (local < 0) break;
+                if (tile.spawnCells.claim(local)) {
+                    return tile.global(local, size);
+                }
+            }
+            // Sin casilla en esta región: devolver el lugar reservado
+            tile.release(type);
         }
+        return -1;
+    }
 
-        Position pos = getRandomFreeSpot();
-        if (pos == null) return false;
+    // Métodos de utilidad
+    public boolean isValid(int row, int col) {
+        return row >= 0 && row < size && col >= 0 && col < size;
+    }
 
-        int[] amounts = {1, 2, 5, 10};
-        int coins = amounts[random.nextInt(amounts.length)];
+    private int cellIndex(int row, int col) {
+        return row * size + col;
+    }
 
-        grid[pos.getRow()][pos.getCol()].setItem(ItemType.COIN, coins);
-        coinsCount.addAndGet(coins);
-        coinCells.incrementAndGet();
+    public int getSize() { return size; }
+    public int getLivesCount() { return sum(tile -> tile.livesCount.get()); }
+    public int getCoinsCount() { return sum(tile -> tile.coinsCount.get()); }
+    public int getTrapsCount() { return sum(tile -> tile.trapsCount.get()); }
+    public int getCoinCells() { return sum(tile -> tile.coinCells.get()); }
+    public int getTileCount() { return tiles.length; }
 
-        if (display != null) {
-            display.updateCell(pos.getRow(), pos.getCol(), null, ItemType.COIN, coins);
+    public boolean canPlaceCoins() {
+        for (BoardTile tile : tiles) {
+            if (tile.canPlaceCoins()) return true;
         }
-
-        log("Coins (" + coins + ") placed at " + pos);
-        return true;
+        return false;
     }
 
-    public boolean placeTrap() {
-        // Máximo 10% de casillas con trampas
-        if (trapsCount.get() >= size * size * 0.1) {
-            return false;
+    public boolean canPlaceTraps() {
+        for (BoardTile tile : tiles) {
+            if (tile.canPlaceTraps()) return true;
         }
+        return false;
+    }
 
-        Position pos = getRandomFreeSpot();
-        if (pos == null) return false;
+    private int sum(ToIntFunction<BoardTile> counter) {
+        if (tiles.length == 1) return counter.applyAsInt(tiles[0]);
+        int total = 0;
+        for (BoardTile tile : tiles) {
+            total += counter.applyAsInt(tile);
+        }
+        return total;
+    }
 
-        grid[pos.getRow()][pos.getCol()].setItem(ItemType.TRAP, 1);
-        trapsCount.incrementAndGet();
+    private void event(EventType type, int actor, int a, int b) {
+        if (logger != null) {
+            logger.event(type, actor, a, b);
+        }
+    }
 
-        if (display != null) {
-            display.updateCell(pos.getRow(), pos.getCol(), null, ItemType.TRAP, 1);
+    private void event(EventType type, int actor, int a, int b, int c, int d) {
+        if (logger != null) {
+            logger.event(type, actor, a, b, c, d);
         }
+    }
 
-        log("Trap placed at " + pos);
-        return true;
+    private static int actorId(Object occupant) {
+        return occupant instanceof Player ? ((Player) occupant).getId() : -1;
     }
 
-    private Position getRandomFreeSpot() {
-        List<Position> free = new ArrayList<>();
+    private void beginWrite(BoardTile tile) {
+        beginWrite(tile, null);
+    }
 
-        lock.readLock().lock();
-        try {
-            for (int i = 0; i < size; i++) {
-                for (int j = 0; j < size; j++) {
-                    if (grid[i][j].isEmpty() && !grid[i][j].hasItem()) {
-                        free.add(new Position(i, j));
-                    }
+    /**
+     * Anota el comienzo de una escritura en una región (o en dos, si un paso
+     * cruza el borde). Si un lector cerró writeGate la escritura no empieza:
+     * se anota como terminada y se espera a que el lector termine su copia.
+     */
+    private void beginWrite(BoardTile tile, BoardTile other) {
+        while (true) {
+            tile.writesStarted.incrementAndGet();
+            if (other != null) other.writesStarted.incrementAndGet();
+            if (!writeGate) return;
+
+            if (other != null) other.writesFinished.incrementAndGet();
+            tile.writesFinished.incrementAndGet();
+            int spins = 0;
+            while (writeGate) {
+                if (++spins < 100) {
+                    Thread.onSpinWait();
+                } else {
+                    LockSupport.parkNanos(50_000);
                 }
             }
-        } finally {
-            lock.readLock().unlock();
         }
+    }
 
-        if (free.isEmpty()) return null;
-        return free.get(random.nextInt(free.size()));
+    private static void endWrite(BoardTile tile) {
+        tile.writesFinished.incrementAndGet();
     }
 
-    // Métodos de utilidad
-    public boolean isValid(int row, int col) {
-        return row >= 0 && row < size && col >= 0 && col < size;
+    // Las sumas de todas las regiones solo crecen, así que comparar sumas
+    // alcanza para saber si hubo alguna escritura en cualquier región.
+    // finished se lee siempre antes que started.
+    private long writesStarted() {
+        long total = 0;
+        for (BoardTile tile : tiles) {
+            total += tile.writesStarted.get();
+        }
+        return total;
     }
 
-    public int getSize() { return size; }
-    public int getLivesCount() { return livesCount.get(); }
-    public int getCoinsCount() { return coinsCount.get(); }
-    public int getTrapsCount() { return trapsCount.get(); }
-    public int getCoinCells() { return coinCells.get(); }
+    private long writesFinished() {
+        long total = 0;
+        for (BoardTile tile : tiles) {
+            total += tile.writesFinished.get();
+        }
+        return total;
+    }
 
-    public boolean canPlaceCoins() {
-        return coinCells.get() < size * size * 0.1;
+    /**
+     * Devuelve una copia consistente del tablero: refleja el estado de algún
+     * instante durante la llamada, nunca uno anterior. Si nada cambió desde el
+     * último snapshot se reutiliza; las regiones que no cambiaron reutilizan
+     * su última copia.
+     *
+     * Primero se intenta sin frenar a nadie. Si las escrituras no dejan
+     * validar la copia, se frenan las escrituras nuevas mientras se copia: en
+     * ese caso los jugadores esperan lo que tarde la copia de las regiones
+     * que cambiaron.
+     */
+    public BoardSnapshot snapshot() {
+        for (int attempt = 0; attempt < SNAPSHOT_RETRIES; attempt++) {
+            long finished = writesFinished();
+            long started = writesStarted();
+
+            BoardSnapshot cached = lastSnapshot;
+            if (cached != null && cached.getVersion() == started && started == finished) {
+                return cached;
+            }
+            if (started != finished) {
+                Thread.onSpinWait(); // Hay una escritura en curso
+                continue;
+            }
+
+            BoardSnapshot copy = copySnapshot(started);
+            if (writesStarted() == started) {
+                lastSnapshot = copy;
+                return copy;
+            }
+        }
+        return snapshotWithWritesPaused();
     }
 
-    public boolean canPlaceTraps() {
-        return trapsCount.get() < size * size * 0.1;
+    private BoardSnapshot snapshotWithWritesPaused() {
+        synchronized (gateLock) {
+            writeGate = true;
+            try {
+                // Esperar que terminen las escrituras que ya habían empezado
+                long finished = writesFinished();
+                long started = writesStarted();
+                while (started != finished) {
+                    Thread.onSpinWait();
+                    finished = writesFinished();
+                    started = writesStarted();
+                }
+
+                BoardSnapshot copy = copySnapshot(started);
+                lastSnapshot = copy;
+                return copy;
+            } finally {
+                writeGate = false;
+            }
+        }
     }
 
-    private void log(String msg) {
-        if (logger != null) {
-            logger.log(msg);
+    /**
+     * Arma el snapshot con la copia de cada región. Una región se vuelve a
+     * copiar solo si tuvo escrituras desde su última copia; la copia nueva se
+     * guarda para el próximo snapshot solo si la región no cambió mientras se copiaba.
+     */
+    private BoardSnapshot copySnapshot(long version) {
+        int cellCount = size * size;
+        int[] occupants = new int[cellCount];
+        byte[] items = new byte[cellCount];
+        int[] quantities = new int[cellCount];
+
+        for (BoardTile tile : tiles) {
+            BoardTile.Image image = tile.image;
+            long tileFinished = tile.writesFinished.get();
+            long tileStarted = tile.writesStarted.get();
+            if (image == null || image.version != tileStarted) {
+                image = copyTile(tile, tileStarted);
+                if (tileStarted == tileFinished && tile.writesStarted.get() == tileStarted) {
+                    tile.image = image;
+                }
+            }
+
+            for (int r = 0; r < tile.rows; r++) {
+                int from = r * tile.cols;
+                int to = (tile.row0 + r) * size + tile.col0;
+                System.arraycopy(image.occupants, from, occupants, to, tile.cols);
+                System.arraycopy(image.items, from, items, to, tile.cols);
+                System.arraycopy(image.quantities, from, quantities, to, tile.cols);
+            }
+        }
+
+        return new BoardSnapshot(version, size, occupants, items, quantities,
+                getLivesCount(), getCoinsCount(), getTrapsCount(), getCoinCells());
+    }
+
+    private BoardTile.Image copyTile(BoardTile tile, long version) {
+        int cellCount = tile.rows * tile.cols;
+        int[] occupants = new int[cellCount];
+        byte[] items = new byte[cellCount];
+        int[] quantities = new int[cellCount];
+
+        for (int local = 0; local < cellCount; local++) {
+            int cell = tile.global(local, size);
+            Object occupant = cells.getOccupant(cell);
+            if (occupant != null) {
+                occupants[local] = occupant instanceof Player ? ((Player) occupant).getId() : -1;
+            }
+            ItemType item = cells.getItem(cell);
+            if (item != null) {
+                items[local] = (byte) (item.ordinal() + 1);
+                quantities[local] = cells.getQuantity(cell);
+            }
+        }
+        return new BoardTile.Image(version, occupants, items, quantities);
+    }
+
+    /** Ocupante de la casilla, para que BoardStressHarness verifique de quién es. */
+    Object occupantAt(int row, int col) {
+        return cells.getOccupant(cellIndex(row, col));
+    }
+
+    /**
+     * Revisa que contadores e índices coincidan con las casillas. Solo tiene
+     * sentido con el tablero quieto (sin hilos escribiendo); lo usa BoardStressHarness.
+     *
+     * @return violaciones encontradas, vacía si está todo bien
+     */
+    List<String> verifyInvariants() {
+        List<String> violations = new ArrayList<>();
+        Map<Object, Integer> occupantCells = new IdentityHashMap<>();
+        int[] itemCells = new int[ItemType.values().length];
+        int lives = 0;
+        int traps = 0;
+        int coins = 0;
+
+        for (int cell = 0; cell < size * size; cell++) {
+            Object occupant = cells.getOccupant(cell);
+            if (occupant != null) {
+                Integer previous = occupantCells.put(occupant, cell);
+                if (previous != null) {
+                    violations.add("Occupant " + actorId(occupant) + " in cells " + previous + " and " + cell);
+                }
+            }
+            BoardTile tile = tileOf(cell);
+            int local = tile.local(cell, size);
+            if ((occupant == null) != tile.freeCells.contains(local)) {
+                violations.add("Free cell index out of sync at cell " + cell);
+            }
+
+            ItemType item = cells.getItem(cell);
+            if (tile.spawnCells.contains(local) != (occupant == null && item == null)) {
+                violations.add("Spawn index out of sync at cell " + cell);
+            }
+            if (item == null) continue;
+
+            itemCells[item.ordinal()]++;
+            int quantity = cells.getQuantity(cell);
+            switch (item) {
+                case COIN:
+                    coins += quantity;
+                    break;
+                case LIFE:
+                    lives++;
+                    break;
+                case TRAP:
+                    traps++;
+                    break;
+            }
+        }
+
+        checkCounter(violations, "coinsCount", getCoinsCount(), coins);
+        checkCounter(violations, "coinCells", getCoinCells(), itemCells[ItemType.COIN.ordinal()]);
+        checkCounter(violations, "livesCount", getLivesCount(), lives);
+        // trapsCount cuenta las trampas colocadas en la partida, no baja al pisarlas
+        if (getTrapsCount() < traps) {
+            violations.add("trapsCount is " + getTrapsCount() + " but the grid has " + traps);
+        }
+        // Cada región respeta su parte, y las partes suman el máximo global
+        int shares = 0;
+        for (BoardTile tile : tiles) {
+            shares += tile.maxItemCells;
+            if (tile.coinCells.get() > tile.maxItemCells || tile.trapsCount.get() > tile.maxItemCells) {
+                violations.add("Tile at (" + tile.row0 + "," + tile.col0 + ") is over its item share");
+            }
+            // Con el tablero quieto no queda ninguna reserva sin colocar
+            if (tile.coinSlots.get() != tile.coinCells.get() || tile.trapSlots.get() != tile.trapsCount.get()) {
+                violations.add("Tile at (" + tile.row0 + "," + tile.col0 + ") has reserved slots " +
+                        tile.coinSlots.get() + "/" + tile.trapSlots.get() + " for " +
+                        tile.coinCells.get() + " coin cells and " + tile.trapsCount.get() + " traps");
+            }
+        }
+        checkCounter(violations, "tile item shares", shares, maxItemCells);
+        for (ItemType type : ItemType.values()) {
+            checkCounter(violations, "itemIndex " + type, itemIndex.count(type), itemCells[type.ordinal()]);
+        }
+        return violations;
+    }
+
+    private static void checkCounter(List<String> violations, String name, int counter, int actual) {
+        if (counter != actual) {
+            violations.add(name + " is " + counter + " but the grid has " + actual);
         }
     }
 
     // Debug
     public String printBoard() {
-        StringBuilder sb = new StringBuilder();
-        lock.readLock().lock();
-        try {
-            for (int i = 0; i < size; i++) {
-                for (int j = 0; j < size; j++) {
-                    Cell cell = grid[i][j];
-                    if (cell.getOccupant() != null) {
-                        // Si el ocupante es un Player, usar su emoji específico
-                        if (cell.getOccupant() instanceof Player) {
-                            Player player = (Player) cell.getOccupant();
-                            sb.append(player.getPlayerEmoji()).append(" ");
-                        } else {
-                            sb.append("👤 ");  // Fallback genérico
-                        }
-                    } else if (cell.hasItem()) {
-                        switch (cell.getItem()) {
-                            case COIN:
-                                sb.append("🟡 ");  // Moneda amarilla
-                                break;
-                            case LIFE:
-                                sb.append("🍏 ");  // Vida como manzana
-                                break;
-                            case TRAP:
-                                sb.append("❌️ ");  // Trampa de muerte
-                                break;
-                        }
-                    } else {
-                        sb.append("🔲 ");  // Casilla vacía
-                    }
-                }
-                sb.append("\n");
+        return snapshot().render();
+    }
+
+    /**
+     * Emoji que representa el estado actual de una casilla.
+     */
+    public String cellSymbol(int row, int col) {
+        int cell = cellIndex(row, col);
+        Object occupant = cells.getOccupant(cell);
+        if (occupant != null) {
+            // Si el ocupante es un Player, usar su emoji específico
+            if (occupant instanceof Player) {
+                return ((Player) occupant).getPlayerEmoji();
+            }
+            return "👤";  // Fallback genérico
+        }
+
+        ItemType item = cells.getItem(cell);
+        if (item != null) {
+            switch (item) {
+                case COIN:
+                    return "🟡";  // Moneda amarilla
+                case LIFE:
+                    return "🍏";  // Vida como manzana
+                case TRAP:
+                    return "❌️";  // Trampa de muerte
             }
-        } finally {
-            lock.readLock().unlock();
         }
-        return sb.toString();
+        return "🔲";  // Casilla vacía
     }
-}
\ No newline at end of file
+}
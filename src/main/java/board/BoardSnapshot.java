@@ -0,0 +1,92 @@
+package board;
+
+import entities.Player;
+
+/**
+ * Copia inmutable y consistente del tablero en un momento dado.
+ * La versión es la cantidad de escrituras que había comenzado el tablero
+ * cuando se tomó la copia: dos snapshots con la misma versión son iguales.
+ */
+public class BoardSnapshot {
+    private static final Board.ItemType[] ITEM_TYPES = Board.ItemType.values();
+
+    private final long version;
+    private final int size;
+    private final int[] occupants;   // id del jugador, -1 otro ocupante, 0 libre
+    private final byte[] items;      // ordinal + 1, 0 sin item
+    private final int[] quantities;
+
+    private final int livesCount;
+    private final int coinsCount;
+    private final int trapsCount;
+    private final int coinCells;
+
+    BoardSnapshot(long version, int size, int[] occupants, byte[] items, int[] quantities,
+                  int livesCount, int coinsCount, int trapsCount, int coinCells) {
+        this.version = version;
+        this.size = size;
+        this.occupants = occupants;
+        this.items = items;
+        this.quantities = quantities;
+        this.livesCount = livesCount;
+        this.coinsCount = coinsCount;
+        this.trapsCount = trapsCount;
+        this.coinCells = coinCells;
+    }
+
+    public long getVersion() { return version; }
+    public int getSize() { return size; }
+
+    public boolean isCellOccupied(int row, int col) {
+        return occupants[row * size + col] != 0;
+    }
+
+    /** Id del jugador en la casilla, -1 si es otro tipo de ocupante, 0 si está libre. */
+    public int getOccupantId(int row, int col) {
+        return occupants[row * size + col];
+    }
+
+    public Board.ItemType getItemType(int row, int col) {
+        int item = items[row * size + col];
+        return item == 0 ? null : ITEM_TYPES[item - 1];
+    }
+
+    public int getItemQuantity(int row, int col) {
+        return quantities[row * size + col];
+    }
+
+    public int getLivesCount() { return livesCount; }
+    public int getCoinsCount() { return coinsCount; }
+    public int getTrapsCount() { return trapsCount; }
+    public int getCoinCells() { return coinCells; }
+
+    public String cellSymbol(int row, int col) {
+        int occupant = getOccupantId(row, col);
+        if (occupant > 0) return Player.emojiFor(occupant);
+        if (occupant < 0) return "👤";  // Fallback genérico
+
+        Board.ItemType item = getItemType(row, col);
+        if (item != null) {
+            switch (item) {
+                case COIN:
+                    return "🟡";  // Moneda amarilla
+                case LIFE:
+                    return "🍏";  // Vida como manzana
+                case TRAP:
+                    return "❌️";  // Trampa de muerte
+            }
+        }
+        return "🔲";  // Casilla vacía
+    }
+
+    public String render() {
+        StringBuilder sb = new StringBuilder(size * size * 4);
+        for (int i = 0; i < size; i++) {
+            for (int j = 0; j < size; j++) {
+                sb.append(cellSymbol(i, j)).append(" ");
+            }
+            sb.append("\n");
+        }
+        return sb.toString();
+    }
+}
@@ -0,0 +1,381 @@
+package board;
+
+import game.GameConfig;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Estrés del tablero: cientos o miles de jugadores sintéticos y robots sin
+ * pausas sobre un mismo Board. Mide movimientos por segundo y la latencia de
+ * moveAlong y takeItem, y al final verifica los invariantes con el
+ * tablero quieto. Termina con código 1 si encuentra alguna violación.
+ *
+ * Después corre checkItemIndex() sobre un tablero chico aparte.
+ *
+ * Uso: BoardStressHarness [--players=1000] [--robots=3] [--seconds=10] [--itemRounds=100] [opciones de GameConfig]
+ */
+public class BoardStressHarness {
+    // Muestras de latencia por hilo; pasado este límite se sigue contando pero no se guarda
+    private static final int MAX_SAMPLES_PER_THREAD = 200_000;
+
+    private static final int[][] DIRECTIONS = {{-1, 0}, {1, 0}, {0, -1}, {0, 1}};
+    // Pasos por movimiento, como un dado chico
+    private static final int MAX_PATH = 3;
+
+    private Board board;
+    private int playerCount;
+    private int robotCount;
+    private long durationMs;
+    private int maxLives;
+
+    private AtomicBoolean running;
+    private LongAdder moves;
+    private LongAdder blockedMoves;
+    private LongAdder collected;
+    private LongAdder placed;
+
+    private List<SyntheticPlayer> players;
+    private List<Latencies> moveLatencies;
+    private List<Latencies> collectLatencies;
+
+    public BoardStressHarness(GameConfig config, int playerCount, int robotCount, long durationMs) {
+        this.board = new Board(config);
+        this.playerCount = playerCount;
+        this.robotCount = robotCount;
+        this.durationMs = durationMs;
+        this.maxLives = config.getMaxLives();
+        this.running = new AtomicBoolean(false);
+        this.moves = new LongAdder();
+        this.blockedMoves = new LongAdder();
+        this.collected = new LongAdder();
+        this.placed = new LongAdder();
+        this.players = new ArrayList<>();
+        this.moveLatencies = new ArrayList<>();
+        this.collectLatencies = new ArrayList<>();
+    }
+
+    /**
+     * Corre el estrés y verifica.
+     * @return violaciones encontradas, vacía si está todo bien
+     */
+    public List<String> run() throws InterruptedException {
+        CountDownLatch start = new CountDownLatch(1);
+        List<Thread> threads = new ArrayList<>();
+
+        for (int i = 0; i < playerCount; i++) {
+            SyntheticPlayer player = new SyntheticPlayer(i + 1);
+            players.add(player);
+            moveLatencies.add(player.moveLatency);
+            collectLatencies.add(player.collectLatency);
+            threads.add(Thread.ofPlatform().name("stress-player-" + (i + 1)).unstarted(() -> {
+                awaitQuietly(start);
+                player.run();
+            }));
+        }
+        for (int i = 0; i < robotCount; i++) {
+            Board.ItemType type = Board.ItemType.values()[i % Board.ItemType.values().length];
+            threads.add(Thread.ofPlatform().name("stress-robot-" + type).unstarted(() -> {
+                awaitQuietly(start);
+                runRobot(type);
+            }));
+        }
+
+        running.set(true);
+        for (Thread thread : threads) {
+            thread.start();
+        }
+        long startTime = System.nanoTime();
+        start.countDown();
+        Thread.sleep(durationMs);
+        running.set(false);
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        double seconds = (System.nanoTime() - startTime) / 1e9;
+
+        report(seconds);
+        List<String> violations = verify();
+
+        // Recién después de verificar se sacan los jugadores del tablero
+        for (SyntheticPlayer player : players) {
+            player.leave();
+        }
+        return violations;
+    }
+
+    private void runRobot(Board.ItemType type) {
+        while (running.get()) {
+            boolean ok;
+            switch (type) {
+                case COIN:
+                    ok = board.canPlaceCoins() && board.placeCoins();
+                    break;
+                case LIFE:
+                    ok = board.getLivesCount() < maxLives && board.placeLife();
+                    break;
+                default:
+                    ok = board.canPlaceTraps() && board.placeTrap();
+                    break;
+            }
+            if (ok) {
+                placed.increment();
+            } else {
+                Thread.onSpinWait();
+            }
+        }
+    }
+
+    private List<String> verify() {
+        List<String> violations = new ArrayList<>(board.verifyInvariants());
+
+        // Los jugadores quedaron quietos en su lugar: cada uno está donde cree
+        // estar, la casilla es suya y no hay ocupantes de más
+        BoardSnapshot snapshot = board.snapshot();
+        int occupied = 0;
+        for (int row = 0; row < board.getSize(); row++) {
+            for (int col = 0; col < board.getSize(); col++) {
+                if (snapshot.isCellOccupied(row, col)) occupied++;
+            }
+        }
+        int placedPlayers = 0;
+        for (SyntheticPlayer player : players) {
+            if (player.row < 0) continue;
+            placedPlayers++;
+            if (!snapshot.isCellOccupied(player.row, player.col)) {
+                violations.add("Player " + player.id + " is not in its cell (" + player.row + "," + player.col + ")");
+            } else if (board.occupantAt(player.row, player.col) != player.token) {
+                violations.add("Cell (" + player.row + "," + player.col + ") of player " + player.id +
+                        " belongs to someone else");
+            }
+        }
+        if (occupied != placedPlayers) {
+            violations.add(occupied + " occupied cells for " + placedPlayers + " players on the board");
+        }
+        return violations;
+    }
+
+    /**
+     * Colocaciones y tomas a la vez en un tablero chico sin regiones, donde las
+     * mismas casillas se reusan todo el tiempo. Corre en tandas cortas y revisa
+     * los invariantes con el tablero quieto después de cada una: un índice de
+     * items desfasado se ve antes de que otra colocación en la misma casilla lo tape.
+     *
+     * @return violaciones encontradas, vacía si está todo bien
+     */
+    static List<String> checkItemIndex(int rounds, long roundMs) throws InterruptedException {
+        GameConfig config = GameConfig.builder().boardSize(4).itemDensity(0.5).tileSize(0).build();
+        Board board = new Board(config);
+        List<String> violations = new ArrayList<>();
+
+        for (int round = 1; round <= rounds && violations.isEmpty(); round++) {
+            AtomicBoolean active = new AtomicBoolean(true);
+            List<Thread> threads = new ArrayList<>();
+            for (Board.ItemType type : new Board.ItemType[]{Board.ItemType.COIN, Board.ItemType.LIFE}) {
+                threads.add(Thread.ofPlatform().start(() -> {
+                    while (active.get()) {
+                        board.placeItem(type, 1);
+                    }
+                }));
+            }
+            for (int i = 0; i < 2; i++) {
+                threads.add(Thread.ofPlatform().start(() -> {
+                    while (active.get()) {
+                        for (int cell = 0; cell < board.getSize() * board.getSize(); cell++) {
+                            board.takeItem(cell / board.getSize(), cell % board.getSize());
+                        }
+                    }
+                }));
+            }
+
+            Thread.sleep(roundMs);
+            active.set(false);
+            for (Thread thread : threads) {
+                thread.join();
+            }
+            for (String violation : board.verifyInvariants()) {
+                violations.add("Item check round " + round + ": " + violation);
+            }
+        }
+        return violations;
+    }
+
+    private void report(double seconds) {
+        System.out.println("Board " + board.getSize() + "x" + board.getSize() +
+                " (" + board.getTileCount() + " tiles), " + playerCount +
+                " players, " + robotCount + " robots, " + String.format("%.1f", seconds) + "s");
+        System.out.println("Moves/s: " + String.format("%.0f", moves.sum() / seconds) +
+                " (blocked: " + blockedMoves.sum() + ")");
+        System.out.println("Items placed: " + placed.sum() + ", collected: " + collected.sum());
+        System.out.println("moveAlong     " + Latencies.summary(moveLatencies));
+        System.out.println("takeItem      " + Latencies.summary(collectLatencies));
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Jugador sin pausas: como Player, recorre caminos cortos al azar con
+     * Board.moveAlong (cada paso atómico, cruzando regiones si hace falta) y
+     * junta lo que haya. Al terminar queda en su casilla para que verify()
+     * pueda revisarla.
+     */
+    private class SyntheticPlayer implements Runnable {
+        private final int id;
+        private final Object token = new Object();
+        private final Latencies moveLatency = new Latencies();
+        private final Latencies collectLatency = new Latencies();
+        private final int[] path = new int[MAX_PATH];
+        private final Board.StepListener stepListener = this::onStep;
+        private int row = -1;
+        private int col = -1;
+
+        SyntheticPlayer(int id) {
+            this.id = id;
+        }
+
+        @Override
+        public void run() {
+            ThreadLocalRandom random = ThreadLocalRandom.current();
+            int size = board.getSize();
+
+            // Entrar al tablero
+            while (running.get() && row < 0) {
+                Board.Position pos = board.getRandomFreePosition();
+                if (pos != null && board.tryOccupyCell(pos.getRow(), pos.getCol(), token)) {
+                    row = pos.getRow();
+                    col = pos.getCol();
+                }
+            }
+
+            while (running.get()) {
+                int length = planPath(random, size);
+                if (length == 0) continue;
+
+                long t0 = System.nanoTime();
+                int steps = board.moveAlong(token, row, col, path, length, stepListener);
+                moveLatency.record(System.nanoTime() - t0);
+
+                if (steps == 0) {
+                    blockedMoves.increment();
+                    continue;
+                }
+                row = path[steps - 1] / size;
+                col = path[steps - 1] % size;
+                moves.add(steps);
+            }
+            // Se queda en su casilla hasta después de verify()
+        }
+
+        /** Camino de hasta MAX_PATH casillas vecinas al azar; nunca vuelve sobre el paso anterior. */
+        private int planPath(ThreadLocalRandom random, int size) {
+            int length = random.nextInt(MAX_PATH) + 1;
+            int r = row;
+            int c = col;
+            int n = 0;
+            while (n < length) {
+                int[] dir = DIRECTIONS[random.nextInt(DIRECTIONS.length)];
+                int nextRow = r + dir[0];
+                int nextCol = c + dir[1];
+                if (!board.isValid(nextRow, nextCol)) break;
+                int next = nextRow * size + nextCol;
+                if (n > 0 && (n > 1 ? path[n - 2] : row * size + col) == next) break;
+                path[n++] = next;
+                r = nextRow;
+                c = nextCol;
+            }
+            return n;
+        }
+
+        private boolean onStep(int stepRow, int stepCol) {
+            if (board.getItemType(stepRow, stepCol) != null) {
+                long t0 = System.nanoTime();
+                Board.TakenItem item = board.takeItem(stepRow, stepCol);
+                collectLatency.record(System.nanoTime() - t0);
+                if (item != null) {
+                    collected.increment();
+                }
+            }
+            return running.get();
+        }
+
+        void leave() {
+            if (row >= 0) {
+                board.releaseCell(row, col, token);
+                row = -1;
+            }
+        }
+    }
+
+    /** Latencias de un solo hilo; se juntan al final para calcular percentiles. */
+    private static class Latencies {
+        private long[] samples = new long[1024];
+        private int count;
+
+        void record(long nanos) {
+            if (count == samples.length) {
+                if (count >= MAX_SAMPLES_PER_THREAD) return;
+                samples = Arrays.copyOf(samples, Math.min(count * 2, MAX_SAMPLES_PER_THREAD));
+            }
+            samples[count++] = nanos;
+        }
+
+        static String summary(List<Latencies> all) {
+            int total = 0;
+            for (Latencies latencies : all) {
+                total += latencies.count;
+            }
+            if (total == 0) return "no samples";
+
+            long[] merged = new long[total];
+            int offset = 0;
+            for (Latencies latencies : all) {
+                System.arraycopy(latencies.samples, 0, merged, offset, latencies.count);
+                offset += latencies.count;
+            }
+            Arrays.sort(merged);
+            return "p50=" + merged[total / 2] + "ns p99=" + merged[(int) (total * 0.99)] +
+                    "ns max=" + merged[total - 1] + "ns (" + total + " samples)";
+        }
+    }
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = GameConfig.parseArgs(args);
+        int players = Integer.parseInt(remove(options, "players", "1000"));
+        int robots = Integer.parseInt(remove(options, "robots", "3"));
+        int itemRounds = Integer.parseInt(remove(options, "itemRounds", "100"));
+        long seconds = Long.parseLong(remove(options, "seconds", "10"));
+        // Por defecto un tablero donde entren los jugadores con lugar para moverse
+        options.putIfAbsent("board.size", String.valueOf(Math.max(10, (int) Math.ceil(Math.sqrt(players * 4.0)))));
+        GameConfig config = GameConfig.fromOptions(options);
+
+        BoardStressHarness harness = new BoardStressHarness(config, players, robots, seconds * 1000);
+        List<String> violations = harness.run();
+        violations.addAll(checkItemIndex(itemRounds, 20));
+        if (violations.isEmpty()) {
+            System.out.println("Invariants OK");
+        } else {
+            System.out.println("INVARIANT VIOLATIONS (" + violations.size() + "):");
+            for (String violation : violations) {
+                System.out.println("  " + violation);
+            }
+            System.exit(1);
+        }
+    }
+
+    private static String remove(Map<String, String> options, String key, String defaultValue) {
+        String value = options.remove(key);
+        return value != null ? value : defaultValue;
+    }
+}
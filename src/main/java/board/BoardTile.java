@@ -0,0 +1,123 @@
+package board;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Región rectangular del tablero con sus propios índices de casillas libres,
+ * contadores y contadores de escritura. Los hilos que trabajan en regiones
+ * distintas no comparten ningún monitor ni contador.
+ *
+ * Los índices guardan casillas locales a la región, (row - row0) * cols + (col - col0).
+ * Cada región recibe una parte del máximo global de casillas con monedas y
+ * con trampas; como las partes suman el máximo global, respetar la parte
+ * propia alcanza para respetar el global sin un contador compartido.
+ */
+class BoardTile {
+    final int row0;
+    final int col0;
+    final int rows;
+    final int cols;
+
+    final FreeCellIndex freeCells;
+    final FreeCellIndex spawnCells;
+
+    final AtomicInteger livesCount = new AtomicInteger(0);
+    final AtomicInteger coinsCount = new AtomicInteger(0);
+    final AtomicInteger trapsCount = new AtomicInteger(0);
+    final AtomicInteger coinCells = new AtomicInteger(0);
+
+    // Lugares de la parte tomados por monedas y trampas, colocadas o a punto
+    // de colocarse. Se reservan antes de elegir la casilla, así dos robots no
+    // pueden pasarse de la parte; coinCells y trapsCount siguen contando solo
+    // lo que está en la grilla.
+    final AtomicInteger coinSlots = new AtomicInteger(0);
+    final AtomicInteger trapSlots = new AtomicInteger(0);
+
+    // Ver Board.snapshot()
+    final AtomicLong writesStarted = new AtomicLong(0);
+    final AtomicLong writesFinished = new AtomicLong(0);
+
+    // Última copia validada de la región; se reemplaza entera, nunca se modifica
+    volatile Image image;
+
+    // Parte del máximo global que le toca a esta región
+    final int maxItemCells;
+
+    BoardTile(int row0, int col0, int rows, int cols, int maxItemCells) {
+        this.row0 = row0;
+        this.col0 = col0;
+        this.rows = rows;
+        this.cols = cols;
+        this.maxItemCells = maxItemCells;
+        this.freeCells = FreeCellIndex.full(rows * cols);
+        this.spawnCells = FreeCellIndex.full(rows * cols);
+    }
+
+    /** Casilla del tablero (row * size + col) a casilla local. */
+    int local(int cell, int size) {
+        return (cell / size - row0) * cols + (cell % size - col0);
+    }
+
+    /** Casilla local a casilla del tablero. */
+    int global(int local, int size) {
+        return (row0 + local / cols) * size + col0 + local % cols;
+    }
+
+    /** Copia inmutable de la región, con el valor de writesStarted al copiarla. */
+    static final class Image {
+        final long version;
+        final int[] occupants;
+        final byte[] items;
+        final int[] quantities;
+
+        Image(long version, int[] occupants, byte[] items, int[] quantities) {
+            this.version = version;
+            this.occupants = occupants;
+            this.items = items;
+            this.quantities = quantities;
+        }
+    }
+
+    boolean canPlaceCoins() {
+        return coinSlots.get() < maxItemCells;
+    }
+
+    boolean canPlaceTraps() {
+        return trapSlots.get() < maxItemCells;
+    }
+
+    /**
+     * Toma un lugar de la parte para una moneda o una trampa.
+     * @return false si la parte ya está completa
+     */
+    boolean reserve(Board.ItemType type) {
+        AtomicInteger slots = slotsFor(type);
+        if (slots == null) return true;
+        int c;
+        do {
+            c = slots.get();
+            if (c >= maxItemCells) return false;
+        } while (!slots.compareAndSet(c, c + 1));
+        return true;
+    }
+
+    /** Devuelve un lugar tomado con reserve() o el de una moneda que se sacó. */
+    void release(Board.ItemType type) {
+        AtomicInteger slots = slotsFor(type);
+        if (slots != null) {
+            slots.decrementAndGet();
+        }
+    }
+
+    private AtomicInteger slotsFor(Board.ItemType type) {
+        switch (type) {
+            case COIN:
+                return coinSlots;
+            case TRAP:
+                return trapSlots;
+            default:
+                return null;
+        }
+    }
+}
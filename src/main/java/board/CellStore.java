@@ -0,0 +1,24 @@
+package board;
+
+/**
+ * Almacenamiento de las casillas del tablero.
+ * Las casillas se identifican por su índice lineal (row * size + col).
+ */
+interface CellStore {
+    Object getOccupant(int cell);
+    boolean isEmpty(int cell);
+    boolean tryOccupy(int cell, Object occupant);
+    boolean release(int cell, Object occupant);
+
+    Board.ItemType getItem(int cell);
+    int getQuantity(int cell);
+    boolean hasItem(int cell);
+    void setItem(int cell, Board.ItemType type, int quantity);
+    void clearItem(int cell);
+
+    /**
+     * Saca el item de la casilla en una sola operación atómica.
+     * @return el item y su cantidad, o null si no había nada
+     */
+    Board.TakenItem takeItem(int cell);
+}
@@ -0,0 +1,99 @@
+package board;
+
+import java.util.Arrays;
+import java.util.Random;
+
+/**
+ * Índice de casillas libres mantenido de forma incremental.
+ * Las casillas se guardan en un arreglo compacto (swap-remove) y un segundo
+ * arreglo recuerda en qué slot está cada casilla, así agregar, quitar y
+ * elegir una al azar son O(1) y no generan basura.
+ *
+ * Quien necesita leer el estado de una casilla y dejar el índice de acuerdo
+ * con él sin que otro hilo se cruce sincroniza sobre el índice y llama a set().
+ */
+class FreeCellIndex {
+    private final int[] cells;   // slot -> índice de casilla (row * size + col)
+    private final int[] slotOf;  // índice de casilla -> slot, -1 si no está, CLAIMED si la tomó claim()
+    private int count;
+
+    private static final int CLAIMED = -2;
+
+    FreeCellIndex(int capacity) {
+        this.cells = new int[capacity];
+        this.slotOf = new int[capacity];
+        Arrays.fill(slotOf, -1);
+        this.count = 0;
+    }
+
+    /** Crea un índice que ya contiene todas las casillas. */
+    static FreeCellIndex full(int capacity) {
+        FreeCellIndex index = new FreeCellIndex(capacity);
+        for (int i = 0; i < capacity; i++) {
+            index.cells[i] = i;
+            index.slotOf[i] = i;
+        }
+        index.count = capacity;
+        return index;
+    }
+
+    synchronized boolean add(int cell) {
+        if (slotOf[cell] != -1) return false; // Ya está, o la tomó claim()
+        cells[count] = cell;
+        slotOf[cell] = count;
+        count++;
+        return true;
+    }
+
+    synchronized boolean remove(int cell) {
+        int slot = slotOf[cell];
+        if (slot < 0) return false;
+
+        // Mover el último al hueco
+        int last = cells[--count];
+        cells[slot] = last;
+        slotOf[last] = slot;
+        slotOf[cell] = -1;
+        return true;
+    }
+
+    synchronized boolean contains(int cell) {
+        return slotOf[cell] >= 0;
+    }
+
+    /** Agrega o quita la casilla según member. */
+    synchronized void set(int cell, boolean member) {
+        if (member) {
+            add(cell);
+        } else {
+            remove(cell);
+        }
+    }
+
+    /**
+     * Saca la casilla y la deja tomada: add() y set() no la vuelven a poner
+     * hasta unclaim(), aunque la casilla quede libre mientras tanto.
+     * @return false si la casilla no estaba
+     */
+    synchronized boolean claim(int cell) {
+        if (!remove(cell)) return false;
+        slotOf[cell] = CLAIMED;
+        return true;
+    }
+
+    synchronized void unclaim(int cell) {
+        if (slotOf[cell] == CLAIMED) {
+            slotOf[cell] = -1;
+        }
+    }
+
+    /** Devuelve una casilla al azar o -1 si el índice está vacío. */
+    synchronized int pickRandom(Random random) {
+        if (count == 0) return -1;
+        return cells[random.nextInt(count)];
+    }
+
+    synchronized int size() {
+        return count;
+    }
+}
@@ -0,0 +1,170 @@
+package board;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Índice espacial de items: el tablero se divide en tiles cuadrados y cada
+ * tile guarda, por tipo de item, las casillas que tienen ese item.
+ * La búsqueda de los k más cercanos recorre anillos de tiles alrededor de la
+ * posición y se detiene en cuanto ningún tile más lejano puede mejorar el
+ * resultado, así no depende del tamaño del tablero.
+ */
+class ItemIndex {
+    static final int TILE_SIZE = 8;
+
+    private static final int TYPE_COUNT = Board.ItemType.values().length;
+
+    private final int size;
+    private final int tilesPerSide;
+    private final AtomicReferenceArray<Bucket> buckets; // [tipo][tile]
+    private final AtomicInteger[] counts;
+
+    ItemIndex(int size) {
+        this.size = size;
+        this.tilesPerSide = (size + TILE_SIZE - 1) / TILE_SIZE;
+        this.buckets = new AtomicReferenceArray<>(TYPE_COUNT * tilesPerSide * tilesPerSide);
+        this.counts = new AtomicInteger[TYPE_COUNT];
+        for (int i = 0; i < TYPE_COUNT; i++) {
+            counts[i] = new AtomicInteger(0);
+        }
+    }
+
+    void add(Board.ItemType type, int cell) {
+        int slot = bucketSlot(type, (cell / size) / TILE_SIZE, (cell % size) / TILE_SIZE);
+        Bucket bucket = buckets.get(slot);
+        if (bucket == null) {
+            buckets.compareAndSet(slot, null, new Bucket());
+            bucket = buckets.get(slot);
+        }
+        if (bucket.add(cell)) {
+            counts[type.ordinal()].incrementAndGet();
+        }
+    }
+
+    void remove(Board.ItemType type, int cell) {
+        Bucket bucket = buckets.get(bucketSlot(type, (cell / size) / TILE_SIZE, (cell % size) / TILE_SIZE));
+        if (bucket != null && bucket.remove(cell)) {
+            counts[type.ordinal()].decrementAndGet();
+        }
+    }
+
+    int count(Board.ItemType type) {
+        return counts[type.ordinal()].get();
+    }
+
+    /**
+     * Devuelve hasta k casillas con items del tipo pedido, ordenadas por
+     * distancia Manhattan a (row, col).
+     */
+    List<Board.Position> nearest(int row, int col, Board.ItemType type, int k) {
+        List<Board.Position> result = new ArrayList<>();
+        if (k <= 0 || count(type) == 0) return result;
+
+        int[] bestCells = new int[k];
+        int found = nearest(row, col, type, bestCells, new int[k]);
+        for (int i = 0; i < found; i++) {
+            result.add(new Board.Position(bestCells[i] / size, bestCells[i] % size));
+        }
+        return result;
+    }
+
+    /**
+     * Igual que nearest(row, col, type, k) con k = bestCells.length, pero
+     * deja las casillas en arreglos del llamador y no crea ningún objeto.
+     *
+     * @param bestDist arreglo de trabajo del mismo largo que bestCells
+     * @return cantidad de casillas encontradas
+     */
+    int nearest(int row, int col, Board.ItemType type, int[] bestCells, int[] bestDist) {
+        int k = bestCells.length;
+        if (k == 0 || count(type) == 0) return 0;
+
+        Arrays.fill(bestDist, 0, k, Integer.MAX_VALUE);
+        int found = 0;
+
+        int tileRow = row / TILE_SIZE;
+        int tileCol = col / TILE_SIZE;
+
+        for (int ring = 0; ring < tilesPerSide; ring++) {
+            // Ningún tile de este anillo puede estar más cerca que esto
+            int minPossible = ring == 0 ? 0 : (ring - 1) * TILE_SIZE + 1;
+            if (found == k && bestDist[k - 1] <= minPossible) break;
+
+            for (int tr = tileRow - ring; tr <= tileRow + ring; tr++) {
+                if (tr < 0 || tr >= tilesPerSide) continue;
+                boolean edgeRow = tr == tileRow - ring || tr == tileRow + ring;
+                int step = edgeRow ? 1 : 2 * ring;
+
+                for (int tc = tileCol - ring; tc <= tileCol + ring; tc += step) {
+                    if (tc < 0 || tc >= tilesPerSide) continue;
+                    Bucket bucket = buckets.get(bucketSlot(type, tr, tc));
+                    if (bucket != null) {
+                        found = bucket.collect(row, col, size, bestCells, bestDist, found);
+                    }
+                }
+            }
+        }
+
+        return found;
+    }
+
+    private int bucketSlot(Board.ItemType type, int tileRow, int tileCol) {
+        return (type.ordinal() * tilesPerSide + tileRow) * tilesPerSide + tileCol;
+    }
+
+    /**
+     * Casillas con item de un tipo dentro de un tile. Son pocas (los robots
+     * limitan la densidad), así que alcanza con un arreglo y búsqueda lineal.
+     */
+    private static class Bucket {
+        private int[] cells = new int[4];
+        private int count;
+
+        synchronized boolean add(int cell) {
+            for (int i = 0; i < count; i++) {
+                if (cells[i] == cell) return false;
+            }
+            if (count == cells.length) {
+                cells = Arrays.copyOf(cells, count * 2);
+            }
+            cells[count++] = cell;
+            return true;
+        }
+
+        synchronized boolean remove(int cell) {
+            for (int i = 0; i < count; i++) {
+                if (cells[i] == cell) {
+                    cells[i] = cells[--count];
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        /**
+         * Inserta las casillas del tile en la lista ordenada de los mejores.
+         */
+        synchronized int collect(int row, int col, int size, int[] bestCells, int[] bestDist, int found) {
+            int k = bestCells.length;
+            for (int i = 0; i < count; i++) {
+                int cell = cells[i];
+                int dist = Math.abs(cell / size - row) + Math.abs(cell % size - col);
+                if (found == k && dist >= bestDist[k - 1]) continue;
+
+                int pos = found < k ? found++ : k - 1;
+                while (pos > 0 && bestDist[pos - 1] > dist) {
+                    bestDist[pos] = bestDist[pos - 1];
+                    bestCells[pos] = bestCells[pos - 1];
+                    pos--;
+                }
+                bestDist[pos] = dist;
+                bestCells[pos] = cell;
+            }
+            return found;
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package board;
+
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Aviso de "se sacó un item" para quien espera lugar bajo un máximo.
+ * Cada aviso incrementa una versión; el interesado lee la versión antes de
+ * revisar el máximo y registra un callback para cuando cambie, así no se
+ * pierde ningún aviso. Si nadie está esperando, avisar es un incremento atómico.
+ */
+class ItemSignal {
+    private final AtomicLong version = new AtomicLong(0);
+    private final ConcurrentLinkedQueue<Runnable> callbacks = new ConcurrentLinkedQueue<>();
+
+    long version() {
+        return version.get();
+    }
+
+    void fire() {
+        version.incrementAndGet();
+        Runnable callback;
+        while ((callback = callbacks.poll()) != null) {
+            callback.run();
+        }
+    }
+
+    /**
+     * Corre callback una sola vez cuando la versión deje de ser seen.
+     */
+    void whenFired(long seen, Runnable callback) {
+        if (version.get() != seen) {
+            callback.run();
+            return;
+        }
+        callbacks.add(callback);
+
+        // Si hubo un aviso mientras se registraba, lo corre quien logre sacarlo de la cola
+        if (version.get() != seen && callbacks.remove(callback)) {
+            callback.run();
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package board;
+
+/**
+ * Almacenamiento clásico: un objeto Cell por casilla.
+ * El ocupante se toma y se suelta con un único CAS sobre la casilla.
+ */
+class ObjectCellStore implements CellStore {
+    private final Board.Cell[] cells;
+
+    ObjectCellStore(int cellCount) {
+        this.cells = new Board.Cell[cellCount];
+
+        for (int i = 0; i < cellCount; i++) {
+            cells[i] = new Board.Cell();
+        }
+    }
+
+    @Override
+    public Object getOccupant(int cell) {
+        return cells[cell].getOccupant();
+    }
+
+    @Override
+    public boolean isEmpty(int cell) {
+        return cells[cell].isEmpty();
+    }
+
+    @Override
+    public boolean tryOccupy(int cell, Object occupant) {
+        return cells[cell].tryOccupy(occupant);
+    }
+
+    @Override
+    public boolean release(int cell, Object occupant) {
+        // Solo el ocupante actual puede soltar la casilla
+        return cells[cell].release(occupant);
+    }
+
+    @Override
+    public Board.ItemType getItem(int cell) {
+        return cells[cell].getItem();
+    }
+
+    @Override
+    public int getQuantity(int cell) {
+        return cells[cell].getQuantity();
+    }
+
+    @Override
+    public boolean hasItem(int cell) {
+        return cells[cell].hasItem();
+    }
+
+    @Override
+    public void setItem(int cell, Board.ItemType type, int quantity) {
+        cells[cell].setItem(type, quantity);
+    }
+
+    @Override
+    public void clearItem(int cell) {
+        cells[cell].clearItem();
+    }
+
+    @Override
+    public Board.TakenItem takeItem(int cell) {
+        return cells[cell].takeItem();
+    }
+}
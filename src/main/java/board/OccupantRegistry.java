@@ -0,0 +1,46 @@
+package board;
+
+import java.util.Arrays;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Asigna un id entero (desde 1) a cada ocupante para poder guardarlo
+ * dentro de una casilla empaquetada. La búsqueda inversa es un arreglo
+ * publicado por una variable volatile, así leer el ocupante no toma locks.
+ */
+class OccupantRegistry {
+    private final ConcurrentHashMap<Object, Integer> ids;
+    private volatile Object[] byId;
+
+    OccupantRegistry() {
+        this.ids = new ConcurrentHashMap<>();
+        this.byId = new Object[16];
+    }
+
+    int idOf(Object occupant) {
+        Integer id = ids.get(occupant);
+        if (id != null) return id;
+        return register(occupant);
+    }
+
+    private synchronized int register(Object occupant) {
+        Integer id = ids.get(occupant);
+        if (id != null) return id;
+
+        int next = ids.size() + 1;
+        Object[] table = byId;
+        if (next >= table.length) {
+            table = Arrays.copyOf(table, table.length * 2);
+        }
+        table[next] = occupant;
+        byId = table;
+        ids.put(occupant, next);
+        return next;
+    }
+
+    Object lookup(int id) {
+        if (id == 0) return null;
+        Object[] table = byId;
+        return id < table.length ? table[id] : null;
+    }
+}
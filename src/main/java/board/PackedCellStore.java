@@ -0,0 +1,125 @@
+package board;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+
+/**
+ * Almacenamiento compacto: cada casilla es un único long.
+ *
+ *   bits  0-31  id del ocupante (0 = libre)
+ *   bits 32-35  tipo de item (0 = sin item, ordinal + 1)
+ *   bits 36-63  cantidad
+ *
+ * Todas las modificaciones se hacen con CAS sobre el long de la casilla,
+ * sin objetos ni monitores por casilla.
+ */
+class PackedCellStore implements CellStore {
+    private static final VarHandle CELLS = MethodHandles.arrayElementVarHandle(long[].class);
+
+    private static final long OCCUPANT_MASK = 0xFFFF_FFFFL;
+    private static final int ITEM_SHIFT = 32;
+    private static final long ITEM_MASK = 0xFL << ITEM_SHIFT;
+    private static final int QUANTITY_SHIFT = 36;
+    private static final int MAX_QUANTITY = (1 << 28) - 1;
+
+    private static final Board.ItemType[] ITEM_TYPES = Board.ItemType.values();
+
+    private final long[] cells;
+    private final OccupantRegistry occupants;
+
+    PackedCellStore(int cellCount) {
+        this.cells = new long[cellCount];
+        this.occupants = new OccupantRegistry();
+    }
+
+    private long read(int cell) {
+        return (long) CELLS.getVolatile(cells, cell);
+    }
+
+    private boolean cas(int cell, long expected, long value) {
+        return CELLS.compareAndSet(cells, cell, expected, value);
+    }
+
+    @Override
+    public Object getOccupant(int cell) {
+        return occupants.lookup((int) (read(cell) & OCCUPANT_MASK));
+    }
+
+    @Override
+    public boolean isEmpty(int cell) {
+        return (read(cell) & OCCUPANT_MASK) == 0;
+    }
+
+    @Override
+    public boolean tryOccupy(int cell, Object occupant) {
+        if (occupant == null) return false;
+        int id = occupants.idOf(occupant);
+        while (true) {
+            long current = read(cell);
+            if ((current & OCCUPANT_MASK) != 0) return false;
+            if (cas(cell, current, current | id)) return true;
+        }
+    }
+
+    @Override
+    public boolean release(int cell, Object occupant) {
+        if (occupant == null) return false;
+        int id = occupants.idOf(occupant);
+        while (true) {
+            long current = read(cell);
+            if ((current & OCCUPANT_MASK) != id) return false;
+            if (cas(cell, current, current & ~OCCUPANT_MASK)) return true;
+        }
+    }
+
+    @Override
+    public Board.ItemType getItem(int cell) {
+        return decodeItem(read(cell));
+    }
+
+    @Override
+    public int getQuantity(int cell) {
+        return (int) (read(cell) >>> QUANTITY_SHIFT);
+    }
+
+    @Override
+    public boolean hasItem(int cell) {
+        return (read(cell) & ITEM_MASK) != 0;
+    }
+
+    @Override
+    public void setItem(int cell, Board.ItemType type, int quantity) {
+        if (quantity < 0 || quantity > MAX_QUANTITY) {
+            throw new IllegalArgumentException("Quantity out of range: " + quantity);
+        }
+        long item = ((long) (type.ordinal() + 1) << ITEM_SHIFT) | ((long) quantity << QUANTITY_SHIFT);
+        while (true) {
+            long current = read(cell);
+            if (cas(cell, current, (current & OCCUPANT_MASK) | item)) return;
+        }
+    }
+
+    @Override
+    public void clearItem(int cell) {
+        while (true) {
+            long current = read(cell);
+            if (cas(cell, current, current & OCCUPANT_MASK)) return;
+        }
+    }
+
+    @Override
+    public Board.TakenItem takeItem(int cell) {
+        while (true) {
+            long current = read(cell);
+            if ((current & ITEM_MASK) == 0) return null;
+            if (cas(cell, current, current & OCCUPANT_MASK)) {
+                return new Board.TakenItem(decodeItem(current), (int) (current >>> QUANTITY_SHIFT));
+            }
+        }
+    }
+
+    private static Board.ItemType decodeItem(long packed) {
+        int item = (int) ((packed & ITEM_MASK) >>> ITEM_SHIFT);
+        return item == 0 ? null : ITEM_TYPES[item - 1];
+    }
+}
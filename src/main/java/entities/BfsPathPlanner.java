@@ -0,0 +1,113 @@
+package entities;
+
+import board.Board;
+
+import java.util.Arrays;
+
+/**
+ * Búsqueda en anchura acotada a los maxSteps pasos alrededor del jugador.
+ * Encuentra el camino más corto al target rodeando casillas ocupadas y, si
+ * el target queda fuera de alcance, el camino a la casilla alcanzable más
+ * cercana a él.
+ *
+ * Los arreglos de trabajo (cola, visitados, padres) son por hilo y se
+ * reutilizan entre llamadas; visitados se marca con un número de generación
+ * para no tener que limpiarlo.
+ */
+public class BfsPathPlanner implements PathPlanner {
+    private static final int[] D_ROW = {-1, 1, 0, 0};
+    private static final int[] D_COL = {0, 0, 1, -1};
+
+    private static final ThreadLocal<Buffers> BUFFERS = ThreadLocal.withInitial(Buffers::new);
+
+    @Override
+    public int planTowards(Board board, int fromRow, int fromCol, int targetRow, int targetCol,
+                           int maxSteps, int[] path) {
+        maxSteps = Math.min(maxSteps, path.length);
+        if (maxSteps <= 0) return 0;
+
+        // Ventana local de (2 * maxSteps + 1)^2 casillas centrada en el origen
+        int width = 2 * maxSteps + 1;
+        Buffers buf = BUFFERS.get();
+        buf.ensureCapacity(width * width);
+        int gen = buf.nextGeneration();
+
+        int origin = maxSteps * width + maxSteps;
+        buf.visited[origin] = gen;
+        buf.dist[origin] = 0;
+        buf.parent[origin] = -1;
+        buf.queue[0] = origin;
+        int head = 0;
+        int tail = 1;
+
+        int best = origin;
+        int bestScore = Math.abs(targetRow - fromRow) + Math.abs(targetCol - fromCol);
+
+        while (head < tail && bestScore > 0) {
+            int cur = buf.queue[head++];
+            if (buf.dist[cur] == maxSteps) continue;
+
+            int curRow = fromRow + cur / width - maxSteps;
+            int curCol = fromCol + cur % width - maxSteps;
+
+            for (int d = 0; d < 4; d++) {
+                int row = curRow + D_ROW[d];
+                int col = curCol + D_COL[d];
+                if (!board.isValid(row, col) || board.isCellOccupied(row, col)) continue;
+
+                int local = (row - fromRow + maxSteps) * width + (col - fromCol + maxSteps);
+                if (buf.visited[local] == gen) continue;
+
+                buf.visited[local] = gen;
+                buf.dist[local] = buf.dist[cur] + 1;
+                buf.parent[local] = cur;
+                buf.queue[tail++] = local;
+
+                // BFS visita primero los caminos cortos: ante empate gana el más corto
+                int score = Math.abs(targetRow - row) + Math.abs(targetCol - col);
+                if (score < bestScore) {
+                    best = local;
+                    bestScore = score;
+                }
+            }
+        }
+
+        if (best == origin) return 0;
+
+        // Reconstruir el camino desde el final hacia el origen
+        int steps = buf.dist[best];
+        int size = board.getSize();
+        for (int local = best, i = steps - 1; local != origin; local = buf.parent[local], i--) {
+            int row = fromRow + local / width - maxSteps;
+            int col = fromCol + local % width - maxSteps;
+            path[i] = row * size + col;
+        }
+        return steps;
+    }
+
+    private static class Buffers {
+        int[] visited = new int[0];
+        int[] dist = new int[0];
+        int[] parent = new int[0];
+        int[] queue = new int[0];
+        int generation = 0;
+
+        void ensureCapacity(int cells) {
+            if (visited.length < cells) {
+                visited = new int[cells];
+                dist = new int[cells];
+                parent = new int[cells];
+                queue = new int[cells];
+                generation = 0;
+            }
+        }
+
+        int nextGeneration() {
+            if (++generation == Integer.MAX_VALUE) {
+                Arrays.fill(visited, 0);
+                generation = 1;
+            }
+            return generation;
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package entities;
+
+import board.Board;
+
+/**
+ * Planificador barato: prueba los dos caminos en L hacia el target
+ * (primero filas y después columnas, o al revés) y se queda con el que
+ * más se acerca. No hace búsqueda, así que no rodea obstáculos.
+ */
+public class LShapedPathPlanner implements PathPlanner {
+    // Buffer para la segunda L, uno por hilo
+    private static final ThreadLocal<int[]> SCRATCH = ThreadLocal.withInitial(() -> new int[8]);
+
+    @Override
+    public int planTowards(Board board, int fromRow, int fromCol, int targetRow, int targetCol,
+                           int maxSteps, int[] path) {
+        int start = Math.abs(targetRow - fromRow) + Math.abs(targetCol - fromCol);
+
+        int rowFirst = planL(board, fromRow, fromCol, targetRow, targetCol, maxSteps, path, true);
+        int best = distanceAfter(board, path, rowFirst, fromRow, fromCol, targetRow, targetCol);
+
+        if (fromRow != targetRow && fromCol != targetCol) {
+            int[] scratch = SCRATCH.get();
+            if (scratch.length < path.length) {
+                scratch = new int[path.length];
+                SCRATCH.set(scratch);
+            }
+
+            int colFirst = planL(board, fromRow, fromCol, targetRow, targetCol, maxSteps, scratch, false);
+            if (distanceAfter(board, scratch, colFirst, fromRow, fromCol, targetRow, targetCol) < best) {
+                System.arraycopy(scratch, 0, path, 0, colFirst);
+                return colFirst;
+            }
+        }
+
+        return best < start ? rowFirst : 0;
+    }
+
+    private int planL(Board board, int fromRow, int fromCol, int targetRow, int targetCol,
+                      int maxSteps, int[] path, boolean rowsFirst) {
+        int dRow = Integer.signum(targetRow - fromRow);
+        int dCol = Integer.signum(targetCol - fromCol);
+        int rowSteps = Math.min(Math.abs(targetRow - fromRow), maxSteps);
+        int colSteps = Math.min(Math.abs(targetCol - fromCol), maxSteps);
+
+        int steps;
+        if (rowsFirst) {
+            steps = PathPlanner.planLine(board, fromRow, fromCol, dRow, 0, rowSteps, path, 0);
+            if (steps < rowSteps) return steps; // Bloqueado antes del codo
+            steps += PathPlanner.planLine(board, fromRow + dRow * steps, fromCol, 0, dCol,
+                    Math.min(colSteps, maxSteps - steps), path, steps);
+        } else {
+            steps = PathPlanner.planLine(board, fromRow, fromCol, 0, dCol, colSteps, path, 0);
+            if (steps < colSteps) return steps;
+            steps += PathPlanner.planLine(board, fromRow, fromCol + dCol * steps, dRow, 0,
+                    Math.min(rowSteps, maxSteps - steps), path, steps);
+        }
+        return steps;
+    }
+
+    private static int distanceAfter(Board board, int[] path, int steps,
+                                     int fromRow, int fromCol, int targetRow, int targetCol) {
+        int size = board.getSize();
+        int row = steps > 0 ? path[steps - 1] / size : fromRow;
+        int col = steps > 0 ? path[steps - 1] % size : fromCol;
+        return Math.abs(targetRow - row) + Math.abs(targetCol - col);
+    }
+}
@@ -0,0 +1,54 @@
+package entities;
+
+import board.Board;
+
+/**
+ * Planificador de caminos para los jugadores.
+ * Los caminos se escriben en un arreglo reutilizable como row * size + col,
+ * sin incluir la casilla de origen, para no generar objetos por turno.
+ */
+public interface PathPlanner {
+
+    /**
+     * Planifica un camino de hasta maxSteps pasos hacia el target. Si no se
+     * puede llegar, el camino termina en la casilla alcanzable más cercana.
+     *
+     * @return cantidad de pasos escritos en path, 0 si no hay forma de acercarse
+     */
+    int planTowards(Board board, int fromRow, int fromCol, int targetRow, int targetCol,
+                    int maxSteps, int[] path);
+
+    /**
+     * Camino en línea recta en la primera dirección libre
+     * (arriba, abajo, derecha, izquierda). Se usa cuando no hay items.
+     */
+    default int planAnyDirection(Board board, int fromRow, int fromCol, int maxSteps, int[] path) {
+        int steps = planLine(board, fromRow, fromCol, -1, 0, maxSteps, path, 0);
+        if (steps == 0) steps = planLine(board, fromRow, fromCol, 1, 0, maxSteps, path, 0);
+        if (steps == 0) steps = planLine(board, fromRow, fromCol, 0, 1, maxSteps, path, 0);
+        if (steps == 0) steps = planLine(board, fromRow, fromCol, 0, -1, maxSteps, path, 0);
+        return steps;
+    }
+
+    /**
+     * Avanza en una dirección desde (row, col) mientras las casillas estén libres
+     * y escribe los pasos en path a partir de offset.
+     *
+     * @return cantidad de pasos agregados
+     */
+    static int planLine(Board board, int row, int col, int dRow, int dCol, int maxSteps, int[] path, int offset) {
+        int size = board.getSize();
+        int steps = 0;
+
+        while (steps < maxSteps && offset + steps < path.length) {
+            row += dRow;
+            col += dCol;
+            if (!board.isValid(row, col) || board.isCellOccupied(row, col)) {
+                break;
+            }
+            path[offset + steps] = row * size + col;
+            steps++;
+        }
+        return steps;
+    }
+}
@@ -1,15 +1,19 @@
 package entities;
 
 import board.Board;
+import game.EventType;
+import game.GameConfig;
+import game.LogCategory;
+import game.LogLevel;
 import game.Logger;
+import game.TickScheduler;
 
 import java.util.Random;
+import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
-import java.util.ArrayList;
-import java.util.List;
 
-public class Player implements Runnable {
+public class Player implements Runnable, TickScheduler.Actor {
     private int playerId;
     private Board board;
     private Random random;
@@ -25,31 +29,95 @@ public class Player implements Runnable {
     // Estado del jugador
     private AtomicInteger lives;
     private AtomicInteger coins;
-    private Board.Position currentPosition;
+    // Casilla actual (row * size + col), -1 mientras no está en el tablero;
+    // un solo int para no crear una Position en cada movimiento
+    private int currentCell = -1;
     private AtomicBoolean isAlive;
     private AtomicBoolean gameActive;
+    private CountDownLatch startLatch;
+    private Runnable deathListener;
+
+    // Planificación de caminos (buffers reutilizados en cada turno)
+    private PathPlanner pathPlanner;
+    private final int[] pathBuffer = new int[MAX_DICE];
+    private final Board.StepListener stepListener = this::onStep;
+    private final int[] targetCells = new int[MAX_TARGETS];
+    private final int[] targetDistances = new int[MAX_TARGETS];
+
+    // Cantidad de items candidatos a evaluar por turno
+    private static final int MAX_TARGETS = 8;
+    // Replanificaciones por turno si el camino se bloquea
+    private static final int MAX_REPLANS = 2;
+    private static final int MAX_DICE = 6;
+    // Demora (ms) entre intentos de entrar al tablero
+    private static final int START_RETRY_DELAY = 50;
 
     // Configuración
     private int minSleep = 1000;
     private int maxSleep = 3000;
+    private int initialLives;
 
     public Player(int id, Board board) {
         this.playerId = id;
         this.board = board;
         this.random = new Random();
-        this.lives = new AtomicInteger(2);
+        this.initialLives = GameConfig.defaults().getInitialLives();
+        this.lives = new AtomicInteger(initialLives);
         this.coins = new AtomicInteger(0);
         this.isAlive = new AtomicBoolean(true);
         this.gameActive = new AtomicBoolean(false);
+        this.pathPlanner = new BfsPathPlanner();
 
         // Asignar emoji único basado en ID
-        this.playerEmoji = PLAYER_EMOJIS[(id - 1) % PLAYER_EMOJIS.length];
+        this.playerEmoji = emojiFor(id);
+    }
+
+    /**
+     * Deja al jugador con estado limpio para otra partida (lo usa el pool de
+     * entidades). Solo se llama cuando su run() anterior ya terminó.
+     */
+    public void reset(int id, Board board) {
+        this.playerId = id;
+        this.board = board;
+        this.playerEmoji = emojiFor(id);
+        this.lives.set(initialLives);
+        this.coins.set(0);
+        this.isAlive.set(true);
+        this.gameActive.set(false);
+        this.currentCell = -1;
+        this.startLatch = null;
+        this.deathListener = null;
     }
 
     public void setLogger(Logger logger) {
         this.logger = logger;
     }
 
+    /** Para simulaciones reproducibles: reemplaza el Random interno. */
+    public void setRandom(Random random) {
+        this.random = random;
+    }
+
+    /** Se llama una sola vez, desde el hilo del jugador, cuando muere. */
+    public void setDeathListener(Runnable deathListener) {
+        this.deathListener = deathListener;
+    }
+
+    public void setStartLatch(CountDownLatch startLatch) {
+        this.startLatch = startLatch;
+    }
+
+    public void setPathPlanner(PathPlanner pathPlanner) {
+        this.pathPlanner = pathPlanner;
+    }
+
+    /** Toma vidas iniciales y tiempos de la configuración; se llama antes de empezar. */
+    public void setConfig(GameConfig config) {
+        this.initialLives = config.getInitialLives();
+        this.lives.set(initialLives);
+        setSleepTime(config.getPlayerSleepMin(), config.getPlayerSleepMax());
+    }
+
     public void setSleepTime(int min, int max) {
         this.minSleep = min;
         this.maxSleep = max;
@@ -66,21 +134,20 @@ public class Player implements Runnable {
     @Override
     public void run() {
         // Esperar que empiece el juego
-        while (!gameActive.get()) {
-            try {
-                Thread.sleep(100);
-            } catch (InterruptedException e) {
-                return;
-            }
+        if (!awaitStart(startLatch, gameActive)) {
+            return;
         }
 
         // Buscar posición inicial
         if (!findStartPosition()) {
-            log("Player " + playerId + " " + playerEmoji + " couldn't find start position");
+            // Si lo interrumpieron no es que falte lugar: terminó la partida
+            if (!Thread.currentThread().isInterrupted()) {
+                log("Player " + playerId + " " + playerEmoji + " couldn't find start position");
+            }
             return;
         }
 
-        log("Player " + playerId + " " + playerEmoji + " started at " + currentPosition);
+        log("Player " + playerId + " " + playerEmoji + " started at " + getPosition());
 
         // Loop principal
         while (isAlive.get() && gameActive.get()) {
@@ -93,316 +160,203 @@ public class Player implements Runnable {
         }
 
         // Limpiar al salir
-        if (currentPosition != null) {
-            board.releaseCell(currentPosition.getRow(), currentPosition.getCol(), this);
+        if (currentCell >= 0) {
+            board.releaseCell(currentRow(), currentCol(), this);
         }
         log("Player " + playerId + " " + playerEmoji + " finished - Lives: " + lives.get() + " Coins: " + coins.get());
     }
 
-    private boolean findStartPosition() {
-        for (int i = 0; i < 5; i++) {
-            Board.Position pos = board.getRandomFreePosition();
-            if (pos != null && board.tryOccupyCell(pos.getRow(), pos.getCol(), this)) {
-                currentPosition = pos;
-                return true;
-            }
-            try { Thread.sleep(50); } catch (InterruptedException e) { return false; }
-        }
-        return false;
-    }
-
-    private void playTurn() {
-        // Tirar dado
-        int dice = random.nextInt(6) + 1;
-        log("Player " + playerId + " " + playerEmoji + " rolled " + dice);
-
-        // Buscar items cercanos y planificar movimiento
-        List<Board.Position> path = findPathToNearestItem(dice);
-
-        if (path.isEmpty()) {
-            log("Player " + playerId + " " + playerEmoji + " has no moves towards items");
-            return;
-        }
-
-        // Moverse hacia el item
-        moveAlongPath(path, dice);
-    }
-
     /**
-     * Encuentra el camino hacia el item más cercano (moneda o vida)
+     * Un turno en modo simulado (TickScheduler) en lugar del loop con sleep.
+     * El primer llamado ubica al jugador; si no hay lugar reintenta más tarde.
      */
-    private List<Board.Position> findPathToNearestItem(int steps) {
-        // Buscar todos los items de interés en el tablero
-        List<ItemTarget> targets = findNearestItems();
-
-        if (targets.isEmpty()) {
-            // Si no hay items, usar el movimiento original
-            return findRandomPath(steps);
-        }
-
-        // Intentar llegar a cada target en orden de distancia
-        for (ItemTarget target : targets) {
-            List<Board.Position> path = planPathToTarget(target.position, steps);
-            if (!path.isEmpty()) {
-                log("Player " + playerId + " " + playerEmoji + " targeting " +
-                        target.itemType + " at " + target.position + " (distance: " + target.distance + ")");
-                return path;
-            }
-        }
+    @Override
+    public long act(long now) {
+        if (!gameActive.get() || !isAlive.get()) return -1;
 
-        // Si no puede llegar completamente a ningún item, moverse en dirección del más cercano
-        if (!targets.isEmpty()) {
-            ItemTarget closestTarget = targets.get(0); // Ya están ordenados por distancia
-            List<Board.Position> partialPath = moveTowardsTarget(closestTarget.position, steps);
-            if (!partialPath.isEmpty()) {
-                log("Player " + playerId + " " + playerEmoji + " moving towards " +
-                        closestTarget.itemType + " at " + closestTarget.position + " (getting closer)");
-                return partialPath;
+        if (currentCell < 0) {
+            Board.Position pos = board.getRandomFreePosition();
+            if (pos == null || !board.tryOccupyCell(pos.getRow(), pos.getCol(), this)) {
+                return START_RETRY_DELAY;
             }
+            setPosition(pos.getRow(), pos.getCol());
+            log("Player " + playerId + " " + playerEmoji + " started at " + getPosition());
+            return nextDelay();
         }
 
-        // Si tampoco puede moverse hacia ningún item, movimiento aleatorio
-        return findRandomPath(steps);
+        playTurn();
+        return isAlive.get() ? nextDelay() : -1;
     }
 
     /**
-     * Encuentra todos los items cercanos ordenados por distancia
+     * Bloquea hasta que se abra el latch de inicio (sin polling).
+     * Devuelve false si lo interrumpen o si el juego terminó antes de empezar.
      */
-    private List<ItemTarget> findNearestItems() {
-        List<ItemTarget> targets = new ArrayList<>();
-        int boardSize = board.getSize();
-
-        // Escanear todo el tablero buscando monedas y vidas
-        for (int row = 0; row < boardSize; row++) {
-            for (int col = 0; col < boardSize; col++) {
-                Board.ItemType item = board.getItemType(row, col);
-                if (item == Board.ItemType.COIN) {
-                    int distance = Math.abs(row - currentPosition.getRow()) +
-                            Math.abs(col - currentPosition.getCol());
-                    targets.add(new ItemTarget(new Board.Position(row, col), item, distance));
-                }
+    static boolean awaitStart(CountDownLatch startLatch, AtomicBoolean gameActive) {
+        if (startLatch != null) {
+            try {
+                startLatch.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return false;
             }
         }
-
-        // Ordenar por distancia (más cercano primero)
-        targets.sort((a, b) -> Integer.compare(a.distance, b.distance));
-        return targets;
+        return gameActive.get();
     }
 
-    /**
-     * Planifica un camino hacia un target específico
-     */
-    private List<Board.Position> planPathToTarget(Board.Position target, int maxSteps) {
-        int currentRow = currentPosition.getRow();
-        int currentCol = currentPosition.getCol();
-        int targetRow = target.getRow();
-        int targetCol = target.getCol();
-
-        // Calcular dirección óptima
-        int rowDiff = targetRow - currentRow;
-        int colDiff = targetCol - currentCol;
-
-        // Priorizar la dirección con mayor diferencia
-        List<int[]> directions = new ArrayList<>();
-
-        if (Math.abs(rowDiff) >= Math.abs(colDiff)) {
-            // Priorizar movimiento vertical
-            if (rowDiff > 0) directions.add(new int[]{1, 0});   // Abajo
-            if (rowDiff < 0) directions.add(new int[]{-1, 0});  // Arriba
-            if (colDiff > 0) directions.add(new int[]{0, 1});   // Derecha
-            if (colDiff < 0) directions.add(new int[]{0, -1});  // Izquierda
-        } else {
-            // Priorizar movimiento horizontal
-            if (colDiff > 0) directions.add(new int[]{0, 1});   // Derecha
-            if (colDiff < 0) directions.add(new int[]{0, -1});  // Izquierda
-            if (rowDiff > 0) directions.add(new int[]{1, 0});   // Abajo
-            if (rowDiff < 0) directions.add(new int[]{-1, 0});  // Arriba
-        }
-
-        // Intentar cada dirección
-        for (int[] dir : directions) {
-            List<Board.Position> path = buildPath(currentRow, currentCol, dir, maxSteps);
-            if (!path.isEmpty()) {
-                return path;
+    private boolean findStartPosition() {
+        for (int i = 0; i < 5; i++) {
+            Board.Position pos = board.getRandomFreePosition();
+            if (pos != null && board.tryOccupyCell(pos.getRow(), pos.getCol(), this)) {
+                setPosition(pos.getRow(), pos.getCol());
+                return true;
             }
-        }
-
-        return new ArrayList<>();
-    }
-
-    /**
-     * Se mueve hacia un target usando todos los pasos disponibles,
-     * incluso si no puede llegar completamente
-     */
-    private List<Board.Position> moveTowardsTarget(Board.Position target, int maxSteps) {
-        int currentRow = currentPosition.getRow();
-        int currentCol = currentPosition.getCol();
-        int targetRow = target.getRow();
-        int targetCol = target.getCol();
-
-        // Calcular diferencias
-        int rowDiff = targetRow - currentRow;
-        int colDiff = targetCol - currentCol;
-
-        // Determinar las direcciones óptimas ordenadas por prioridad
-        List<DirectionInfo> directions = new ArrayList<>();
-
-        // Agregar direcciones con su beneficio (qué tanto nos acerca al objetivo)
-        if (rowDiff > 0) directions.add(new DirectionInfo(new int[]{1, 0}, Math.abs(rowDiff), "down"));
-        if (rowDiff < 0) directions.add(new DirectionInfo(new int[]{-1, 0}, Math.abs(rowDiff), "up"));
-        if (colDiff > 0) directions.add(new DirectionInfo(new int[]{0, 1}, Math.abs(colDiff), "right"));
-        if (colDiff < 0) directions.add(new DirectionInfo(new int[]{0, -1}, Math.abs(colDiff), "left"));
-
-        // Ordenar por beneficio (mayor beneficio primero)
-        directions.sort((a, b) -> Integer.compare(b.benefit, a.benefit));
-
-        // Intentar cada dirección y usar el máximo de pasos posible
-        for (DirectionInfo dirInfo : directions) {
-            List<Board.Position> path = buildMaxPath(currentRow, currentCol, dirInfo.direction, maxSteps);
-            if (!path.isEmpty()) {
-                log("Player " + playerId + " " + playerEmoji + " moving " + dirInfo.name +
-                        " towards target (can move " + path.size() + "/" + maxSteps + " steps)");
-                return path;
+            try {
+                Thread.sleep(START_RETRY_DELAY);
+            } catch (InterruptedException e) {
+                // Match.finish cancela así: el hilo del pool tiene que seguir viendo la interrupción
+                Thread.currentThread().interrupt();
+                return false;
             }
         }
-
-        return new ArrayList<>();
+        return false;
     }
 
-    /**
-     * Construye el camino más largo posible en una dirección
-     */
-    private List<Board.Position> buildMaxPath(int startRow, int startCol, int[] direction, int maxSteps) {
-        List<Board.Position> path = new ArrayList<>();
+    private void playTurn() {
+        // Tirar dado
+        int dice = random.nextInt(MAX_DICE) + 1;
+        event(EventType.PLAYER_ROLLED, dice, 0, 0);
 
-        for (int step = 1; step <= maxSteps; step++) {
-            int newRow = startRow + direction[0] * step;
-            int newCol = startCol + direction[1] * step;
+        // Planificar y moverse; si el camino se bloquea se replanifica con los pasos restantes
+        int remainingSteps = dice;
+        for (int attempt = 0; attempt <= MAX_REPLANS && remainingSteps > 0; attempt++) {
+            if (!gameActive.get() || !isAlive.get()) break;
 
-            if (!board.isValid(newRow, newCol) || board.isCellOccupied(newRow, newCol)) {
+            int planned = findPathToNearestItem(remainingSteps);
+            if (planned == 0) {
+                if (attempt == 0) {
+                    event(EventType.PLAYER_NO_MOVES, 0, 0, 0);
+                }
                 break;
             }
 
-            path.add(new Board.Position(newRow, newCol));
-        }
+            int moved = moveAlongPath(planned);
+            remainingSteps -= moved;
 
-        return path;
+            if (moved == planned || !gameActive.get() || !isAlive.get()) break;
+            event(EventType.PLAYER_BLOCKED, moved, 0, 0);
+        }
     }
 
     /**
-     * Construye un camino en una dirección específica
+     * Planifica en pathBuffer el camino hacia la moneda más cercana a la que se pueda
+     * acercar. Si no hay monedas, o no puede acercarse a ninguna, se mueve al azar.
+     *
+     * @return cantidad de pasos planificados
      */
-    private List<Board.Position> buildPath(int startRow, int startCol, int[] direction, int maxSteps) {
-        List<Board.Position> path = new ArrayList<>();
-
-        for (int step = 1; step <= maxSteps; step++) {
-            int newRow = startRow + direction[0] * step;
-            int newCol = startCol + direction[1] * step;
-
-            if (!board.isValid(newRow, newCol) || board.isCellOccupied(newRow, newCol)) {
-                break;
+    private int findPathToNearestItem(int steps) {
+        int size = board.getSize();
+        int row = currentCell / size;
+        int col = currentCell % size;
+
+        // El tablero mantiene un índice espacial, no hace falta escanearlo
+        int targets = board.nearestItems(row, col, Board.ItemType.COIN, targetCells, targetDistances);
+
+        for (int i = 0; i < targets; i++) {
+            int targetRow = targetCells[i] / size;
+            int targetCol = targetCells[i] % size;
+            int planned = pathPlanner.planTowards(board, row, col, targetRow, targetCol, steps, pathBuffer);
+            if (planned > 0) {
+                event(EventType.PLAYER_TARGETING, targetRow, targetCol,
+                        Math.abs(targetRow - row) + Math.abs(targetCol - col));
+                return planned;
             }
-
-            path.add(new Board.Position(newRow, newCol));
         }
 
-        return path;
+        // Si no hay items o no puede acercarse a ninguno, movimiento en línea recta
+        return pathPlanner.planAnyDirection(board, row, col, steps, pathBuffer);
     }
 
     /**
-     * Movimiento aleatorio original (fallback)
+     * Mueve al jugador a lo largo del camino planificado, verificando en cada paso
+     *
+     * @return cantidad de pasos realizados
      */
-    private List<Board.Position> findRandomPath(int steps) {
-        // Direcciones: arriba, abajo, derecha, izquierda
-        int[][] dirs = {{-1,0}, {1,0}, {0,1}, {0,-1}};
-
-        for (int[] dir : dirs) {
-            List<Board.Position> path = buildPath(currentPosition.getRow(), currentPosition.getCol(), dir, steps);
-            if (!path.isEmpty()) {
-                return path;
-            }
+    private int moveAlongPath(int plannedSteps) {
+        int stepsMoved = board.moveAlong(this, currentRow(), currentCol(), pathBuffer, plannedSteps, stepListener);
+
+        if (stepsMoved > 0) {
+            currentCell = pathBuffer[stepsMoved - 1];
+            event(EventType.PLAYER_MOVED, currentRow(), currentCol(), stepsMoved);
         }
-        return new ArrayList<>();
+        return stepsMoved;
     }
 
     /**
-     * Mueve al jugador a lo largo del camino, verificando en cada paso
+     * Se llama en cada paso confirmado; corta el camino si el jugador muere
      */
-    private void moveAlongPath(List<Board.Position> plannedPath, int diceRoll) {
-        int stepsMoved = 0;
-
-        for (Board.Position nextPos : plannedPath) {
-            if (!gameActive.get() || !isAlive.get()) break;
-
-            // Verificar si la casilla sigue libre antes de moverse
-            if (board.isCellOccupied(nextPos.getRow(), nextPos.getCol())) {
-                log("Player " + playerId + " " + playerEmoji + " path blocked at " + nextPos + ", replanning...");
-
-                // Replanificar desde la posición actual con los pasos restantes
-                int remainingSteps = diceRoll - stepsMoved;
-                if (remainingSteps > 0) {
-                    List<Board.Position> newPath = findPathToNearestItem(remainingSteps);
-                    if (!newPath.isEmpty()) {
-                        moveAlongPath(newPath, remainingSteps);
-                    }
-                }
-                break;
-            }
-
-            // Liberar posición actual
-            board.releaseCell(currentPosition.getRow(), currentPosition.getCol(), this);
-
-            // Ocupar nueva posición
-            if (board.tryOccupyCell(nextPos.getRow(), nextPos.getCol(), this)) {
-                currentPosition = nextPos;
-                stepsMoved++;
-                handleItem();
-                log("Player " + playerId + " " + playerEmoji + " moved to " + nextPos + " (step " + stepsMoved + ")");
-
-                try { Thread.sleep(100); } catch (InterruptedException e) { break; }
-            } else {
-                // Si no pudo, volver a la anterior
-                board.tryOccupyCell(currentPosition.getRow(), currentPosition.getCol(), this);
-                break;
-            }
-        }
+    private boolean onStep(int row, int col) {
+        handleItem(row, col);
+        return gameActive.get() && isAlive.get();
     }
 
-    private void handleItem() {
-        Board.ItemType item = board.getItemType(currentPosition.getRow(), currentPosition.getCol());
-        if (item == null) return;
+    private void handleItem(int row, int col) {
+        // Tipo y cantidad salen juntos: si otro jugador lo tomó primero no hay nada
+        Board.TakenItem taken = board.takeItem(row, col);
+        if (taken == null) return;
 
-        int quantity = board.getItemQuantity(currentPosition.getRow(), currentPosition.getCol());
-        board.collectItem(currentPosition.getRow(), currentPosition.getCol());
-
-        switch (item) {
+        int quantity = taken.getQuantity();
+        switch (taken.getType()) {
             case COIN:
                 coins.addAndGet(quantity);
-                log("Player " + playerId + " " + playerEmoji + " got " + quantity + " coins (total: " + coins.get() + ")");
+                event(EventType.PLAYER_GOT_COINS, quantity, coins.get(), 0);
                 break;
             case LIFE:
                 lives.incrementAndGet();
-                log("Player " + playerId + " " + playerEmoji + " got life (total: " + lives.get() + ")");
+                event(EventType.PLAYER_GOT_LIFE, lives.get(), 0, 0);
                 break;
             case TRAP:
                 lives.decrementAndGet();
-                log("Player " + playerId + " " + playerEmoji + " hit trap! (lives: " + lives.get() + ")");
-                if (lives.get() <= 0) {
-                    isAlive.set(false);
-                    log("Player " + playerId + " " + playerEmoji + " died!");
+                event(EventType.PLAYER_HIT_TRAP, lives.get(), 0, 0);
+                if (lives.get() <= 0 && isAlive.compareAndSet(true, false)) {
+                    event(EventType.PLAYER_DIED, 0, 0, 0);
+                    if (deathListener != null) {
+                        deathListener.run();
+                    }
                 }
                 break;
         }
     }
 
+    private void setPosition(int row, int col) {
+        currentCell = row * board.getSize() + col;
+    }
+
+    private int currentRow() {
+        return currentCell / board.getSize();
+    }
+
+    private int currentCol() {
+        return currentCell % board.getSize();
+    }
+
     private void sleep() throws InterruptedException {
-        int time = random.nextInt(maxSleep - minSleep + 1) + minSleep;
-        Thread.sleep(time);
+        Thread.sleep(nextDelay());
+    }
+
+    private int nextDelay() {
+        return random.nextInt(maxSleep - minSleep + 1) + minSleep;
     }
 
     private void log(String msg) {
         if (logger != null) {
-            logger.log(msg);
+            logger.log(LogLevel.INFO, LogCategory.PLAYER, msg);
+        }
+    }
+
+    private void event(EventType type, int a, int b, int c) {
+        if (logger != null) {
+            logger.event(type, playerId, a, b, c);
         }
     }
 
@@ -411,41 +365,20 @@ public class Player implements Runnable {
     public int getLives() { return lives.get(); }
     public int getCoins() { return coins.get(); }
     public boolean isAlive() { return isAlive.get(); }
-    public Board.Position getPosition() { return currentPosition; }
+    public Board.Position getPosition() {
+        int cell = currentCell;
+        return cell >= 0 ? new Board.Position(cell / board.getSize(), cell % board.getSize()) : null;
+    }
     public String getPlayerEmoji() { return playerEmoji; }
 
+    public static String emojiFor(int id) {
+        if (id < 1) return "";
+        return PLAYER_EMOJIS[(id - 1) % PLAYER_EMOJIS.length];
+    }
+
     @Override
     public String toString() {
         return "Player " + playerId + " " + playerEmoji + " [Lives:" + lives.get() +
                 " Coins:" + coins.get() + " Alive:" + isAlive.get() + "]";
     }
-
-    /**
-     * Clase auxiliar para representar targets de items
-     */
-    private static class ItemTarget {
-        Board.Position position;
-        Board.ItemType itemType;
-        int distance;
-
-        ItemTarget(Board.Position position, Board.ItemType itemType, int distance) {
-            this.position = position;
-            this.itemType = itemType;
-            this.distance = distance;
-        }
-    }
-
-    /**
-     * Clase auxiliar para dirección y beneficio de avanzar hacia un ítem
-     */
-    private static class DirectionInfo {
-        int[] direction;
-        int benefit;
-        String name;
-        DirectionInfo(int[] direction, int benefit, String name) {
-            this.direction = direction;
-            this.benefit = benefit;
-            this.name = name;
-        }
-    }
-}
\ No newline at end of file
+}
@@ -0,0 +1,199 @@
+package game;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Supplier;
+
+/**
+ * Cola circular acotada con slots preasignados: muchos productores, un consumidor.
+ *
+ * Productor: claim() reserva una secuencia (o devuelve -1 si la política
+ * descarta el evento), slot(seq) da el slot a llenar y publish(seq) lo confirma.
+ * tryClaim() es igual pero nunca espera, tampoco con BLOCK.
+ * La secuencia la guarda el productor, no el slot.
+ * Consumidor: poll() devuelve el próximo slot publicado y release() lo libera.
+ * Con DROP_OLDEST los productores pueden pisar un slot mientras se lee, por eso
+ * release() indica si el contenido leído sigue siendo válido.
+ */
+class BoundedRing<S extends BoundedRing.Slot> {
+    private static final long WRITING = -2;
+
+    private static final VarHandle SEQUENCE;
+    private static final VarHandle SKIPPED;
+    static {
+        try {
+            MethodHandles.Lookup lookup = MethodHandles.lookup();
+            SEQUENCE = lookup.findVarHandle(Slot.class, "sequence", long.class);
+            SKIPPED = lookup.findVarHandle(Slot.class, "skipped", long.class);
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    static class Slot {
+        volatile long sequence = -1; // secuencia publicada en este slot, WRITING mientras se escribe
+        volatile long skipped = -1;  // última secuencia descartada en este slot (DROP_OLDEST)
+    }
+
+    private final Slot[] slots;
+    private final int mask;
+    private final OverflowPolicy policy;
+    private final AtomicLong tail;
+    private final AtomicLong head; // solo lo avanza el consumidor
+
+    // Contadores
+    private final AtomicLong dropped;
+    private final AtomicLong coalesced;
+
+    BoundedRing(int capacity, OverflowPolicy policy, Supplier<S> factory) {
+        int size = Integer.highestOneBit(Math.max(2, capacity - 1)) << 1;
+        this.slots = new Slot[size];
+        for (int i = 0; i < size; i++) {
+            slots[i] = factory.get();
+        }
+        this.mask = size - 1;
+        this.policy = policy;
+        this.tail = new AtomicLong(0);
+        this.head = new AtomicLong(0);
+        this.dropped = new AtomicLong(0);
+        this.coalesced = new AtomicLong(0);
+    }
+
+    /**
+     * Reserva una secuencia para escribir, o -1 si la política descartó el evento.
+     */
+    long claim() {
+        long seq;
+        switch (policy) {
+            case BLOCK:
+                seq = tail.getAndIncrement();
+                int spins = 0;
+                while (seq - head.get() >= slots.length) {
+                    if (++spins < 100) {
+                        Thread.onSpinWait();
+                    } else {
+                        LockSupport.parkNanos(100_000);
+                    }
+                }
+                break;
+            case DROP_OLDEST:
+                // Se pisa el slot aunque no se haya consumido
+                seq = tail.getAndIncrement();
+                break;
+            default:
+                return claimIfRoom(policy == OverflowPolicy.COALESCE ? coalesced : dropped);
+        }
+
+        if (policy == OverflowPolicy.DROP_OLDEST && !takeOwnership(slots[(int) (seq & mask)], seq)) {
+            return -1;
+        }
+        return seq;
+    }
+
+    /**
+     * Como claim(), pero si la política es BLOCK y la cola está llena descarta
+     * el evento (cuenta en getDropped()) en lugar de esperar al consumidor.
+     * Es para productores que no pueden quedar frenados por el log.
+     */
+    long tryClaim() {
+        return policy == OverflowPolicy.BLOCK ? claimIfRoom(dropped) : claim();
+    }
+
+    private long claimIfRoom(AtomicLong discarded) {
+        while (true) {
+            long t = tail.get();
+            if (t - head.get() >= slots.length) {
+                discarded.incrementAndGet();
+                return -1;
+            }
+            if (tail.compareAndSet(t, t + 1)) {
+                return t;
+            }
+        }
+    }
+
+    /**
+     * Con DROP_OLDEST dos productores a una vuelta de distancia caen en el mismo
+     * slot: solo escribe el que pasa el slot a WRITING con un CAS. El otro
+     * descarta su evento y lo anota en skipped para que el consumidor no lo espere.
+     */
+    private boolean takeOwnership(Slot slot, long seq) {
+        long current = slot.sequence;
+        if (current != WRITING && SEQUENCE.compareAndSet(slot, current, WRITING)) {
+            // Los datos nuevos no pueden quedar visibles antes que WRITING
+            VarHandle.storeStoreFence();
+            return true;
+        }
+
+        long skipped;
+        do {
+            skipped = slot.skipped;
+        } while (skipped < seq && !SKIPPED.compareAndSet(slot, skipped, seq));
+        dropped.incrementAndGet();
+        return false;
+    }
+
+    @SuppressWarnings("unchecked")
+    S slot(long seq) {
+        return (S) slots[(int) (seq & mask)];
+    }
+
+    void publish(long seq) {
+        SEQUENCE.setRelease(slots[(int) (seq & mask)], seq);
+    }
+
+    /** Próximo slot publicado, o null si no hay. Solo para el consumidor. */
+    @SuppressWarnings("unchecked")
+    S poll() {
+        while (true) {
+            long h = head.get();
+            Slot slot = slots[(int) (h & mask)];
+            if (slot.sequence == h) return (S) slot;
+
+            // El productor de h perdió el slot contra otro y descartó su evento
+            if (policy == OverflowPolicy.DROP_OLDEST && slot.skipped == h) {
+                head.set(h + 1);
+                continue;
+            }
+
+            // Con DROP_OLDEST los productores pueden habernos dado la vuelta
+            long t = tail.get();
+            if (policy == OverflowPolicy.DROP_OLDEST && t - h > slots.length) {
+                long newHead = t - slots.length;
+                dropped.addAndGet(newHead - h);
+                head.set(newHead);
+                continue;
+            }
+            return null;
+        }
+    }
+
+    /**
+     * Libera el slot devuelto por poll.
+     *
+     * @return false si el slot fue pisado mientras se leía (solo con DROP_OLDEST)
+     */
+    boolean release(S slot) {
+        long h = head.get();
+        boolean intact = true;
+        if (policy == OverflowPolicy.DROP_OLDEST) {
+            VarHandle.acquireFence();
+            intact = slot.sequence == h;
+            if (!intact) dropped.incrementAndGet();
+        }
+        head.set(h + 1);
+        return intact;
+    }
+
+    int size() {
+        long size = tail.get() - head.get();
+        return (int) Math.max(0, Math.min(size, slots.length));
+    }
+
+    int capacity() { return slots.length; }
+    OverflowPolicy getPolicy() { return policy; }
+    long getDropped() { return dropped.get(); }
+    long getCoalesced() { return coalesced.get(); }
+}
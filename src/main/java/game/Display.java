@@ -1,22 +1,66 @@
 package game;
 
 import board.Board;
+import board.BoardSnapshot;
 import entities.Player;
 
-import java.util.concurrent.BlockingQueue;
-import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.LockSupport;
 
 public class Display implements Runnable {
+    /**
+     * FULL: reimprime todo el tablero en cada evento.
+     * DIRTY: junta los eventos y, como máximo maxFps veces por segundo,
+     * reescribe solo las casillas que cambiaron usando secuencias ANSI.
+     */
+    public enum RenderMode {
+        FULL, DIRTY
+    }
+
+    private static final String ESC = "\u001B[";
+
     private Board board;
-    private BlockingQueue<UpdateEvent> eventQueue;
+    private BoundedRing<UpdateEvent> eventQueue;
     private AtomicBoolean active;
     private Logger logger;
 
+    // Con COALESCE: hubo eventos que no entraron, redibujar con el estado actual
+    private volatile boolean refreshPending;
+    private final UpdateEvent current = new UpdateEvent();
+
+    // Render por regiones sucias
+    private RenderMode renderMode;
+    private long frameIntervalMs;
+    private long lastFrame;
+    private boolean fullRedraw;
+    private boolean[] dirtyFlags;
+    private int[] dirtyCells;
+    private int dirtyCount;
+
     public Display(Board board) {
+        this(board, GameConfig.defaults());
+    }
+
+    public Display(Board board, GameConfig config) {
+        this(board, config.getDisplayQueueCapacity(), config.getDisplayOverflow());
+        this.renderMode = config.getDisplayRenderMode();
+        this.frameIntervalMs = 1000L / config.getDisplayMaxFps();
+    }
+
+    public Display(Board board, int queueCapacity, OverflowPolicy overflowPolicy) {
         this.board = board;
-        this.eventQueue = new LinkedBlockingQueue<>();
+        this.eventQueue = new BoundedRing<>(queueCapacity, overflowPolicy, UpdateEvent::new);
         this.active = new AtomicBoolean(false);
+        this.dirtyFlags = new boolean[board.getSize() * board.getSize()];
+        this.dirtyCells = new int[board.getSize() * board.getSize()];
+        this.fullRedraw = true;
+        this.renderMode = GameConfig.defaults().getDisplayRenderMode();
+        this.frameIntervalMs = 1000L / GameConfig.defaults().getDisplayMaxFps();
+    }
+
+    public void setRenderMode(RenderMode renderMode, int maxFps) {
+        this.renderMode = renderMode;
+        this.frameIntervalMs = 1000L / Math.max(1, maxFps);
     }
 
     public void setLogger(Logger logger) {
@@ -36,71 +80,215 @@ public class Display implements Runnable {
         log("Display started");
 
         // Mostrar tablero inicial
-        printBoard();
+        if (renderMode == RenderMode.FULL) {
+            printBoard();
+        }
 
         while (active.get()) {
             try {
-                // Esperar evento con timeout
-                UpdateEvent event = eventQueue.poll(1, java.util.concurrent.TimeUnit.SECONDS);
+                UpdateEvent event = eventQueue.poll();
 
                 if (event != null) {
-                    processEvent(event);
-                    printBoard();
+                    // Copiar y liberar el slot antes de procesar
+                    current.copyFrom(event);
+                    if (eventQueue.release(event)) {
+                        processEvent(current);
+                        if (renderMode == RenderMode.FULL) {
+                            printBoard();
+                        } else {
+                            markDirty(current);
+                        }
+                    }
+                } else if (refreshPending) {
+                    refreshPending = false;
+                    if (renderMode == RenderMode.FULL) {
+                        printBoard();
+                    } else {
+                        requestFullRedraw();
+                    }
+                }
+
+                // En modo DIRTY se dibuja a lo sumo un frame por intervalo
+                long now = System.currentTimeMillis();
+                if (renderMode == RenderMode.DIRTY && now - lastFrame >= frameIntervalMs) {
+                    renderFrame();
+                    lastFrame = now;
+                }
+
+                if (event == null) {
+                    LockSupport.parkNanos(10_000_000);
+                    if (Thread.interrupted()) break;
                 }
 
-            } catch (InterruptedException e) {
-                break;
             } catch (Exception e) {
                 log("Display error: " + e.getMessage());
             }
         }
 
-        log("Display stopped");
+        log("Display stopped (dropped: " + eventQueue.getDropped() +
+                ", coalesced: " + eventQueue.getCoalesced() + ")");
     }
 
     public void updateCell(int row, int col, Object occupant, Board.ItemType item, int quantity) {
         if (active.get()) {
-            eventQueue.offer(new UpdateEvent(row, col, occupant, item, quantity));
+            long seq = claimEvent();
+            if (seq < 0) return;
+
+            UpdateEvent event = eventQueue.slot(seq);
+            event.set(row, col, occupant, item, quantity);
+            event.fromRow = -1;
+            event.fromCol = -1;
+            event.fromItem = null;
+            event.fromQuantity = 0;
+            eventQueue.publish(seq);
         }
     }
 
+    /**
+     * Un movimiento completo se encola como un solo evento: la casilla
+     * de origen queda libre y la de destino con el ocupante.
+     */
+    public void updateMove(int fromRow, int fromCol, Board.ItemType fromItem, int fromQuantity,
+                           int row, int col, Object occupant, Board.ItemType item, int quantity) {
+        if (active.get()) {
+            long seq = claimEvent();
+            if (seq < 0) return;
+
+            UpdateEvent event = eventQueue.slot(seq);
+            event.set(row, col, occupant, item, quantity);
+            event.fromRow = fromRow;
+            event.fromCol = fromCol;
+            event.fromItem = fromItem;
+            event.fromQuantity = fromQuantity;
+            eventQueue.publish(seq);
+        }
+    }
+
+    private long claimEvent() {
+        long seq = eventQueue.claim();
+        if (seq < 0 && eventQueue.getPolicy() == OverflowPolicy.COALESCE) {
+            refreshPending = true;
+        }
+        return seq;
+    }
+
     private void processEvent(UpdateEvent event) {
-        // Solo para logging del evento
-        String msg = "Cell (" + event.row + "," + event.col + ") updated";
-        if (event.occupant != null) {
-            msg += " - occupied by " + event.occupant;
+        // Solo para logging del evento: campos enteros, el texto lo arma el logger
+        if (logger == null) return;
+
+        int actor = event.occupant instanceof Player ? ((Player) event.occupant).getId() : -1;
+        if (event.fromRow >= 0) {
+            logger.event(EventType.DISPLAY_MOVE, actor, event.fromRow, event.fromCol, event.row, event.col);
+        } else {
+            logger.event(EventType.DISPLAY_CELL_UPDATED, actor, event.row, event.col,
+                    EventType.itemCode(event.item), event.quantity);
         }
-        if (event.item != null) {
-            msg += " - item: " + event.item + "(" + event.quantity + ")";
+    }
+
+    private synchronized void markDirty(UpdateEvent event) {
+        markDirty(event.row, event.col);
+        if (event.fromRow >= 0) {
+            markDirty(event.fromRow, event.fromCol);
         }
-        log(msg);
     }
 
-    private void printBoard() {
-        System.out.println("\n========== BOARD ==========");
-        System.out.println(board.printBoard());
-        System.out.println("Lives: " + board.getLivesCount() +
+    private void markDirty(int row, int col) {
+        int cell = row * board.getSize() + col;
+        if (!dirtyFlags[cell]) {
+            dirtyFlags[cell] = true;
+            dirtyCells[dirtyCount++] = cell;
+        }
+    }
+
+    private synchronized void requestFullRedraw() {
+        fullRedraw = true;
+    }
+
+    /**
+     * Dibuja un frame del modo DIRTY. El tablero se imprime una vez completo
+     * (encabezado, filas y línea de estado) y después cada casilla sucia se
+     * reescribe moviendo el cursor hacia arriba desde la línea siguiente al estado.
+     */
+    private synchronized void renderFrame() {
+        if (!fullRedraw && dirtyCount == 0) return;
+
+        int size = board.getSize();
+        StringBuilder sb = new StringBuilder();
+
+        if (fullRedraw) {
+            BoardSnapshot snapshot = board.snapshot();
+            sb.append("========== BOARD ==========\n");
+            sb.append(snapshot.render());
+            sb.append(statusLine(snapshot)).append('\n');
+            fullRedraw = false;
+        } else {
+            for (int i = 0; i < dirtyCount; i++) {
+                int row = dirtyCells[i] / size;
+                int col = dirtyCells[i] % size;
+                int up = size - row + 1; // filas restantes + línea de estado
+
+                // Cada casilla ocupa 3 columnas (emoji de ancho 2 + espacio)
+                sb.append(ESC).append(up).append('A')
+                        .append(ESC).append(col * 3 + 1).append('G')
+                        .append(board.cellSymbol(row, col))
+                        .append(ESC).append(up).append('B')
+                        .append('\r');
+            }
+            sb.append(ESC).append("1A\r").append(ESC).append("2K")
+                    .append(statusLine()).append('\n');
+        }
+
+        for (int i = 0; i < dirtyCount; i++) {
+            dirtyFlags[dirtyCells[i]] = false;
+        }
+        dirtyCount = 0;
+
+        System.out.print(sb);
+        System.out.flush();
+    }
+
+    private String statusLine() {
+        return "Lives: " + board.getLivesCount() +
                 " | Coins: " + board.getCoinsCount() +
                 " | Traps: " + board.getTrapsCount() +
-                " | Coin cells: " + board.getCoinCells());
+                " | Coin cells: " + board.getCoinCells();
+    }
+
+    private String statusLine(BoardSnapshot snapshot) {
+        return "Lives: " + snapshot.getLivesCount() +
+                " | Coins: " + snapshot.getCoinsCount() +
+                " | Traps: " + snapshot.getTrapsCount() +
+                " | Coin cells: " + snapshot.getCoinCells();
+    }
+
+    private synchronized void printBoard() {
+        // Una sola copia consistente para el tablero y los contadores
+        BoardSnapshot snapshot = board.snapshot();
+        System.out.println("\n========== BOARD ==========");
+        System.out.println(snapshot.render());
+        System.out.println(statusLine(snapshot));
         System.out.println("===========================\n");
+
+        // Se imprimió algo fuera del frame: el próximo frame va completo
+        fullRedraw = true;
     }
 
-    public void showGameStart() {
+    public synchronized void showGameStart() {
         System.out.println("=================================");
         System.out.println("       GAME STARTED!");
         System.out.println("=================================");
         printBoard();
     }
 
-    public void showGameEnd() {
+    public synchronized void showGameEnd() {
         System.out.println("=================================");
         System.out.println("       GAME ENDED!");
         System.out.println("=================================");
         printBoard();
     }
 
-    public void showWinner(Player winner) {
+    public synchronized void showWinner(Player winner) {
+        fullRedraw = true;
         System.out.println("=================================");
         System.out.println("       WINNER!");
         System.out.println("  Player " + winner.getId() +
@@ -109,7 +297,8 @@ public class Display implements Runnable {
         System.out.println("=================================");
     }
 
-    public void showResults(java.util.List<Player> players) {
+    public synchronized void showResults(java.util.List<Player> players) {
+        fullRedraw = true;
         System.out.println("\n========== RESULTS ==========");
         for (Player p : players) {
             System.out.println("Player " + p.getId() +
@@ -122,27 +311,42 @@ public class Display implements Runnable {
 
     private void log(String msg) {
         if (logger != null) {
-            logger.log("[DISPLAY] " + msg);
+            logger.log(LogLevel.INFO, LogCategory.DISPLAY, "[DISPLAY] " + msg);
         }
     }
 
-    // Clase para eventos de actualización
-    private static class UpdateEvent {
+    // Clase para eventos de actualización (slots reutilizados de la cola)
+    private static class UpdateEvent extends BoundedRing.Slot {
         int row, col;
         Object occupant;
         Board.ItemType item;
         int quantity;
 
-        UpdateEvent(int row, int col, Object occupant, Board.ItemType item, int quantity) {
+        // Origen de un movimiento (-1 si es una sola casilla)
+        int fromRow = -1, fromCol = -1;
+        Board.ItemType fromItem;
+        int fromQuantity;
+
+        void set(int row, int col, Object occupant, Board.ItemType item, int quantity) {
             this.row = row;
             this.col = col;
             this.occupant = occupant;
             this.item = item;
             this.quantity = quantity;
         }
+
+        void copyFrom(UpdateEvent other) {
+            set(other.row, other.col, other.occupant, other.item, other.quantity);
+            this.fromRow = other.fromRow;
+            this.fromCol = other.fromCol;
+            this.fromItem = other.fromItem;
+            this.fromQuantity = other.fromQuantity;
+        }
     }
 
     // Getters para debug
     public boolean isActive() { return active.get(); }
     public int getQueueSize() { return eventQueue.size(); }
+    public long getDroppedEvents() { return eventQueue.getDropped(); }
+    public long getCoalescedEvents() { return eventQueue.getCoalesced(); }
 }
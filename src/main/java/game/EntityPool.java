@@ -0,0 +1,65 @@
+package game;
+
+import board.Board;
+import entities.Player;
+
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Jugadores e hilos que se reutilizan entre partidas.
+ * Las partidas piden entidades al empezar y las devuelven al terminar, en vez
+ * de crear objetos e hilos nuevos cada vez. Es thread-safe: varias partidas
+ * en paralelo pueden compartir el mismo pool.
+ */
+public class EntityPool {
+    private ExecutorService executor;
+    private ConcurrentLinkedQueue<Player> players;
+
+    private AtomicLong created;
+    private AtomicLong reused;
+
+    public EntityPool(ExecutionMode executionMode) {
+        this.executor = executionMode.newExecutor("entity");
+        this.players = new ConcurrentLinkedQueue<>();
+        this.created = new AtomicLong(0);
+        this.reused = new AtomicLong(0);
+    }
+
+    public Player acquirePlayer(int id, Board board) {
+        Player player = players.poll();
+        if (player == null) {
+            created.incrementAndGet();
+            return new Player(id, board);
+        }
+        reused.incrementAndGet();
+        player.reset(id, board);
+        return player;
+    }
+
+    /** Devuelve una entidad cuyo run() ya terminó. */
+    public void release(Runnable entity) {
+        if (entity instanceof Player) {
+            players.add((Player) entity);
+        }
+    }
+
+    public Future<?> submit(Runnable task) {
+        return executor.submit(task);
+    }
+
+    public void shutdown() {
+        executor.shutdownNow();
+        try {
+            executor.awaitTermination(1, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    public long getCreated() { return created.get(); }
+    public long getReused() { return reused.get(); }
+}
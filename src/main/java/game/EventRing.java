@@ -0,0 +1,44 @@
+package game;
+
+/**
+ * Cola de eventos del logger: slots preasignados con campos enteros,
+ * publicar un evento no crea objetos.
+ */
+class EventRing extends BoundedRing<EventRing.Slot> {
+
+    static final class Slot extends BoundedRing.Slot {
+        EventType type;
+        long time;
+        int match, actor, a, b, c, d;
+        String text;
+    }
+
+    EventRing(int capacity, OverflowPolicy policy) {
+        super(capacity, policy, Slot::new);
+    }
+
+    void publish(EventType type, String text, int match, int actor, int a, int b, int c, int d) {
+        write(claim(), type, text, match, actor, a, b, c, d);
+    }
+
+    /** Como publish, pero descarta el evento en lugar de esperar si la cola está llena. */
+    void offer(EventType type, String text, int match, int actor, int a, int b, int c, int d) {
+        write(tryClaim(), type, text, match, actor, a, b, c, d);
+    }
+
+    private void write(long seq, EventType type, String text, int match, int actor, int a, int b, int c, int d) {
+        if (seq < 0) return; // Descartado por la política
+
+        Slot slot = slot(seq);
+        slot.type = type;
+        slot.time = System.currentTimeMillis();
+        slot.text = text;
+        slot.match = match;
+        slot.actor = actor;
+        slot.a = a;
+        slot.b = b;
+        slot.c = c;
+        slot.d = d;
+        publish(seq);
+    }
+}
@@ -0,0 +1,93 @@
+package game;
+
+import board.Board;
+import entities.Player;
+
+/**
+ * Eventos estructurados del juego. Los hilos del juego solo guardan el tipo
+ * y campos enteros; el texto se arma recién en el hilo del logger.
+ *
+ * Convención de campos: actor es el id del jugador (-1 si no hay),
+ * a..d dependen del tipo. Los items se pasan por su ordinal.
+ * Cada tipo tiene un nivel y una categoría para poder filtrarlo.
+ */
+public enum EventType {
+    // Texto libre (logger.log)
+    TEXT(LogLevel.INFO, LogCategory.GAME, (sb, e) -> sb.append(e.text)),
+
+    // Tablero
+    CELL_OCCUPIED(LogLevel.TRACE, LogCategory.BOARD, (sb, e) -> sb.append("Cell ").append(e.a).append(',').append(e.b).append(" occupied")),
+    CELL_RELEASED(LogLevel.TRACE, LogCategory.BOARD, (sb, e) -> sb.append("Cell ").append(e.a).append(',').append(e.b).append(" released")),
+    CELL_MOVED(LogLevel.TRACE, LogCategory.BOARD, (sb, e) -> sb.append("Cell ").append(e.a).append(',').append(e.b)
+            .append(" -> ").append(e.c).append(',').append(e.d).append(" moved")),
+    ITEM_COLLECTED(LogLevel.DEBUG, LogCategory.BOARD, (sb, e) -> sb.append("Collected ").append(item(e.c)).append(" (").append(e.d)
+            .append(") at ").append(e.a).append(',').append(e.b)),
+    ITEM_PLACED(LogLevel.DEBUG, LogCategory.BOARD, (sb, e) -> sb.append(item(e.c)).append(" (").append(e.d).append(") placed at (")
+            .append(e.a).append(',').append(e.b).append(')')),
+
+    // Jugadores
+    PLAYER_ROLLED(LogLevel.DEBUG, LogCategory.PLAYER, (sb, e) -> player(sb, e).append(" rolled ").append(e.a)),
+    PLAYER_NO_MOVES(LogLevel.DEBUG, LogCategory.PLAYER, (sb, e) -> player(sb, e).append(" has no moves towards items")),
+    PLAYER_TARGETING(LogLevel.DEBUG, LogCategory.PLAYER, (sb, e) -> player(sb, e).append(" targeting COIN at (").append(e.a).append(',')
+            .append(e.b).append(") (distance: ").append(e.c).append(')')),
+    PLAYER_MOVED(LogLevel.DEBUG, LogCategory.PLAYER, (sb, e) -> player(sb, e).append(" moved to (").append(e.a).append(',').append(e.b)
+            .append(") (").append(e.c).append(" steps)")),
+    PLAYER_BLOCKED(LogLevel.DEBUG, LogCategory.PLAYER, (sb, e) -> player(sb, e).append(" path blocked after ").append(e.a)
+            .append(" steps, replanning...")),
+    PLAYER_GOT_COINS(LogLevel.DEBUG, LogCategory.PLAYER, (sb, e) -> player(sb, e).append(" got ").append(e.a).append(" coins (total: ")
+            .append(e.b).append(')')),
+    PLAYER_GOT_LIFE(LogLevel.DEBUG, LogCategory.PLAYER, (sb, e) -> player(sb, e).append(" got life (total: ").append(e.a).append(')')),
+    PLAYER_HIT_TRAP(LogLevel.INFO, LogCategory.PLAYER, (sb, e) -> player(sb, e).append(" hit trap! (lives: ").append(e.a).append(')')),
+    PLAYER_DIED(LogLevel.INFO, LogCategory.PLAYER, (sb, e) -> player(sb, e).append(" died!")),
+
+    // Display
+    DISPLAY_CELL_UPDATED(LogLevel.TRACE, LogCategory.DISPLAY, (sb, e) -> {
+        sb.append("[DISPLAY] Cell (").append(e.a).append(',').append(e.b).append(") updated");
+        if (e.actor >= 0) player(sb.append(" - occupied by "), e);
+        if (e.c >= 0) sb.append(" - item: ").append(item(e.c)).append('(').append(e.d).append(')');
+    }),
+    DISPLAY_MOVE(LogLevel.TRACE, LogCategory.DISPLAY, (sb, e) -> {
+        sb.append("[DISPLAY] Cell (").append(e.a).append(',').append(e.b).append(") -> (")
+                .append(e.c).append(',').append(e.d).append(") moved");
+        if (e.actor >= 0) player(sb.append(" - occupied by "), e);
+    });
+
+    /**
+     * Arma el texto de un evento. Se ejecuta solo en el hilo del logger.
+     */
+    interface Formatter {
+        void format(StringBuilder sb, EventRing.Slot event);
+    }
+
+    private static final Board.ItemType[] ITEM_TYPES = Board.ItemType.values();
+
+    private final LogLevel level;
+    private final LogCategory category;
+    private final Formatter formatter;
+
+    EventType(LogLevel level, LogCategory category, Formatter formatter) {
+        this.level = level;
+        this.category = category;
+        this.formatter = formatter;
+    }
+
+    public LogLevel getLevel() { return level; }
+    public LogCategory getCategory() { return category; }
+
+    void format(StringBuilder sb, EventRing.Slot event) {
+        formatter.format(sb, event);
+    }
+
+    /** Ordinal de un item para guardar en un evento, -1 si no hay item. */
+    public static int itemCode(Board.ItemType item) {
+        return item == null ? -1 : item.ordinal();
+    }
+
+    private static String item(int code) {
+        return code >= 0 && code < ITEM_TYPES.length ? ITEM_TYPES[code].name() : "NONE";
+    }
+
+    private static StringBuilder player(StringBuilder sb, EventRing.Slot e) {
+        return sb.append("Player ").append(e.actor).append(' ').append(Player.emojiFor(e.actor));
+    }
+}
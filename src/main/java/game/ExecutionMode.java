@@ -0,0 +1,33 @@
+package game;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+
+/**
+ * Tipo de hilo en el que corren los jugadores.
+ * PLATFORM usa un hilo del sistema por entidad; VIRTUAL usa hilos virtuales,
+ * así la cantidad de jugadores no queda limitada por la cantidad de hilos.
+ */
+public enum ExecutionMode {
+    PLATFORM,
+    VIRTUAL;
+
+    public ThreadFactory threadFactory(String prefix) {
+        if (this == VIRTUAL) {
+            return Thread.ofVirtual().name(prefix + "-", 1).factory();
+        }
+        return Thread.ofPlatform().name(prefix + "-", 1).factory();
+    }
+
+    /**
+     * Executor para las entidades. Los hilos de plataforma quedan en un pool y
+     * se reutilizan entre partidas; los virtuales son baratos y se crea uno por tarea.
+     */
+    public ExecutorService newExecutor(String prefix) {
+        if (this == VIRTUAL) {
+            return Executors.newThreadPerTaskExecutor(threadFactory(prefix));
+        }
+        return Executors.newCachedThreadPool(threadFactory(prefix));
+    }
+}
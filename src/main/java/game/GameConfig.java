@@ -1,47 +1,425 @@
 package game;
 
+import java.io.FileReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+
+/**
+ * Configuración inmutable de una partida. Se arma con un perfil
+ * (small-interactive, large-headless, stress) y se puede pisar cualquier valor
+ * desde un archivo .properties (--config=archivo) o con --clave=valor, sin
+ * recompilar. build() valida todo antes de crear el objeto.
+ */
 public class GameConfig {
 
+    // Perfiles
+    public static final String SMALL_INTERACTIVE = "small-interactive";
+    public static final String LARGE_HEADLESS = "large-headless";
+    public static final String STRESS = "stress";
+
+    private static final GameConfig DEFAULTS = builder().build();
+
     // Tablero
-    public static final int BOARD_SIZE = 10;
+    private final int boardSize;
+    private final boolean packedBoard;        // long por casilla, para tableros grandes
+    private final double itemDensity;         // Máximo de casillas con monedas (y con trampas)
+    private final int tileSize;               // Lado de cada región del tablero, 0 = una sola región
+                                              // (los contadores de escritura quedan compartidos:
+                                              // conviene usar regiones en tableros grandes)
+
+    // Hilos de jugadores (VIRTUAL permite decenas de miles de jugadores)
+    private final ExecutionMode executionMode;
 
     // Jugadores
-    public static final int MIN_PLAYERS = 3;
-    public static final int INITIAL_LIVES = 2;
-    public static final int PLAYER_SLEEP_MIN = 1000;
-    public static final int PLAYER_SLEEP_MAX = 3000;
+    private final int minPlayers;
+    private final int initialLives;
+    private final int playerSleepMin;
+    private final int playerSleepMax;
 
     // Tiempo de juego
-    public static final int GAME_TIME_LIMIT = 60000;
+    private final int gameTimeLimit;
+
+    // Generación de vidas (ItemSpawner)
+    private final int maxLives;
+    private final int lifeSleepMin;
+    private final int lifeSleepMax;
+
+    // Generación de monedas
+    private final int coinSleepMin;
+    private final int coinSleepMax;
+    private final int[] coinValues;
+
+    // Generación de trampas
+    private final int trapSleepMin;
+    private final int trapSleepMax;
+
+    // Colas acotadas (capacidad y qué hacer si se llenan)
+    private final int logQueueCapacity;
+    private final OverflowPolicy logOverflow;
+    private final int displayQueueCapacity;
+    private final OverflowPolicy displayOverflow;
+
+    // Display: DIRTY reescribe solo las casillas que cambian (ANSI), FULL reimprime todo
+    private final Display.RenderMode displayRenderMode;
+    private final int displayMaxFps;
+
+    // Log
+    private final String logFile;
+    private final boolean logToConsole;     // El eco rompe el dibujo en modo DIRTY
+    private final String logLevels;         // Por categoría, ver Logger.configureLevels
+
+    private GameConfig(Builder b) {
+        this.boardSize = b.boardSize;
+        this.packedBoard = b.packedBoard;
+        this.itemDensity = b.itemDensity;
+        this.tileSize = b.tileSize;
+        this.executionMode = b.executionMode;
+        this.minPlayers = b.minPlayers;
+        this.initialLives = b.initialLives;
+        this.playerSleepMin = b.playerSleepMin;
+        this.playerSleepMax = b.playerSleepMax;
+        this.gameTimeLimit = b.gameTimeLimit;
+        this.maxLives = b.maxLives;
+        this.lifeSleepMin = b.lifeSleepMin;
+        this.lifeSleepMax = b.lifeSleepMax;
+        this.coinSleepMin = b.coinSleepMin;
+        this.coinSleepMax = b.coinSleepMax;
+        this.coinValues = b.coinValues.clone();
+        this.trapSleepMin = b.trapSleepMin;
+        this.trapSleepMax = b.trapSleepMax;
+        this.logQueueCapacity = b.logQueueCapacity;
+        this.logOverflow = b.logOverflow;
+        this.displayQueueCapacity = b.displayQueueCapacity;
+        this.displayOverflow = b.displayOverflow;
+        this.displayRenderMode = b.displayRenderMode;
+        this.displayMaxFps = b.displayMaxFps;
+        this.logFile = b.logFile;
+        this.logToConsole = b.logToConsole;
+        this.logLevels = b.logLevels;
+    }
+
+    /** Configuración por defecto (perfil small-interactive). */
+    public static GameConfig defaults() {
+        return DEFAULTS;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /** Builder con los valores de un perfil, para seguir ajustándolo. */
+    public static Builder profile(String name) {
+        Builder b = new Builder();
+        switch (name) {
+            case SMALL_INTERACTIVE:
+                break;
+            case LARGE_HEADLESS:
+                b.boardSize = 200;
+                b.packedBoard = true;
+                b.tileSize = 32;
+                b.displayRenderMode = Display.RenderMode.DIRTY;
+                b.logLevels = "INFO";
+                b.logOverflow = OverflowPolicy.DROP_OLDEST;
+                break;
+            case STRESS:
+                b.boardSize = 1000;
+                b.packedBoard = true;
+                b.tileSize = 64;
+                b.playerSleepMin = 10;
+                b.playerSleepMax = 50;
+                b.gameTimeLimit = 10000;
+                b.maxLives = 5000;
+                b.lifeSleepMin = 5;
+                b.lifeSleepMax = 20;
+                b.coinSleepMin = 5;
+                b.coinSleepMax = 20;
+                b.trapSleepMin = 5;
+                b.trapSleepMax = 20;
+                b.logQueueCapacity = 64 * 1024;
+                b.logOverflow = OverflowPolicy.DROP_OLDEST;
+                b.logLevels = "INFO";
+                break;
+            default:
+                throw new IllegalArgumentException("Unknown profile: " + name);
+        }
+        return b;
+    }
 
-    // Robot de vidas
-    public static final int MAX_LIVES = 5;
-    public static final int LIFE_SLEEP_MIN = 2000;
-    public static final int LIFE_SLEEP_MAX = 4000;
+    /**
+     * Arma la configuración a partir de opciones clave/valor: primero el perfil
+     * (clave "profile", por defecto small-interactive) y después el resto en orden.
+     */
+    public static GameConfig fromOptions(Map<String, String> options) {
+        Builder b = profile(options.getOrDefault("profile", SMALL_INTERACTIVE));
+        for (Map.Entry<String, String> option : options.entrySet()) {
+            if (!option.getKey().equals("profile")) {
+                b.set(option.getKey(), option.getValue());
+            }
+        }
+        return b.build();
+    }
 
-    // Robot de monedas
-    public static final int COIN_SLEEP_MIN = 1500;
-    public static final int COIN_SLEEP_MAX = 3500;
-    public static final int[] COIN_VALUES = {1, 2, 5, 10};
+    /**
+     * Junta las opciones de la línea de comandos: primero las de --config=archivo
+     * (.properties) y después los --clave=valor, que pisan al archivo.
+     * Un --clave sin valor cuenta como "true".
+     */
+    public static Map<String, String> parseArgs(String[] args) throws IOException {
+        Map<String, String> options = new LinkedHashMap<>();
+        for (String arg : args) {
+            if (arg.startsWith("--config=")) {
+                Properties props = new Properties();
+                try (Reader reader = new FileReader(arg.substring("--config=".length()), StandardCharsets.UTF_8)) {
+                    props.load(reader);
+                }
+                for (String key : props.stringPropertyNames()) {
+                    options.put(key, props.getProperty(key).trim());
+                }
+            }
+        }
+        for (String arg : args) {
+            if (!arg.startsWith("--") || arg.startsWith("--config=")) continue;
+            int eq = arg.indexOf('=');
+            if (eq < 0) {
+                options.put(arg.substring(2), "true");
+            } else {
+                options.put(arg.substring(2, eq), arg.substring(eq + 1));
+            }
+        }
+        return options;
+    }
 
-    // Robot de trampas
-    public static final int TRAP_SLEEP_MIN = 2500;
-    public static final int TRAP_SLEEP_MAX = 5000;
+    // Getters
+    public int getBoardSize() { return boardSize; }
+    public boolean isPackedBoard() { return packedBoard; }
+    public double getItemDensity() { return itemDensity; }
+    public int getTileSize() { return tileSize; }
+    public ExecutionMode getExecutionMode() { return executionMode; }
+    public int getMinPlayers() { return minPlayers; }
+    public int getInitialLives() { return initialLives; }
+    public int getPlayerSleepMin() { return playerSleepMin; }
+    public int getPlayerSleepMax() { return playerSleepMax; }
+    public int getGameTimeLimit() { return gameTimeLimit; }
+    public int getMaxLives() { return maxLives; }
+    public int getLifeSleepMin() { return lifeSleepMin; }
+    public int getLifeSleepMax() { return lifeSleepMax; }
+    public int getCoinSleepMin() { return coinSleepMin; }
+    public int getCoinSleepMax() { return coinSleepMax; }
+    public int[] getCoinValues() { return coinValues.clone(); }
+    public int getTrapSleepMin() { return trapSleepMin; }
+    public int getTrapSleepMax() { return trapSleepMax; }
+    public int getLogQueueCapacity() { return logQueueCapacity; }
+    public OverflowPolicy getLogOverflow() { return logOverflow; }
+    public int getDisplayQueueCapacity() { return displayQueueCapacity; }
+    public OverflowPolicy getDisplayOverflow() { return displayOverflow; }
+    public Display.RenderMode getDisplayRenderMode() { return displayRenderMode; }
+    public int getDisplayMaxFps() { return displayMaxFps; }
+    public String getLogFile() { return logFile; }
+    public boolean isLogToConsole() { return logToConsole; }
+    public String getLogLevels() { return logLevels; }
 
-    // Otros
-    public static final String LOG_FILE = "game.log";
+    public int maxCoinCells() {
+        return (int) (boardSize * boardSize * itemDensity);
+    }
 
-    public static int maxCoinCells() {
-        return (int) (BOARD_SIZE * BOARD_SIZE * 0.1);
+    public int maxTraps() {
+        return (int) (boardSize * boardSize * itemDensity);
     }
 
-    public static int maxTraps() {
-        return (int) (BOARD_SIZE * BOARD_SIZE * 0.1);
+    public void print() {
+        System.out.println("Config: Board " + boardSize + "x" + boardSize +
+                ", Min players " + minPlayers +
+                ", Game time " + (gameTimeLimit / 1000) + "s");
     }
 
-    public static void print() {
-        System.out.println("Config: Board " + BOARD_SIZE + "x" + BOARD_SIZE +
-                ", Min players " + MIN_PLAYERS +
-                ", Game time " + (GAME_TIME_LIMIT/1000) + "s");
+    public static class Builder {
+        private int boardSize = 10;
+        private boolean packedBoard = false;
+        private double itemDensity = 0.1;
+        private int tileSize = 0;
+        private ExecutionMode executionMode = ExecutionMode.VIRTUAL;
+        private int minPlayers = 3;
+        private int initialLives = 2;
+        private int playerSleepMin = 1000;
+        private int playerSleepMax = 3000;
+        private int gameTimeLimit = 60000;
+        private int maxLives = 5;
+        private int lifeSleepMin = 2000;
+        private int lifeSleepMax = 4000;
+        private int coinSleepMin = 1500;
+        private int coinSleepMax = 3500;
+        private int[] coinValues = {1, 2, 5, 10};
+        private int trapSleepMin = 2500;
+        private int trapSleepMax = 5000;
+        private int logQueueCapacity = 16 * 1024;
+        private OverflowPolicy logOverflow = OverflowPolicy.BLOCK;
+        private int displayQueueCapacity = 1024;
+        private OverflowPolicy displayOverflow = OverflowPolicy.COALESCE;
+        private Display.RenderMode displayRenderMode = Display.RenderMode.DIRTY;
+        private int displayMaxFps = 10;
+        private String logFile = "game.log";
+        private boolean logToConsole = false;
+        private String logLevels = "DEBUG";  // TRACE incluye cada casilla; en producción alcanza con "INFO"
+
+        private Builder() {
+        }
+
+        public Builder boardSize(int boardSize) { this.boardSize = boardSize; return this; }
+        public Builder packedBoard(boolean packedBoard) { this.packedBoard = packedBoard; return this; }
+        public Builder itemDensity(double itemDensity) { this.itemDensity = itemDensity; return this; }
+        public Builder tileSize(int tileSize) { this.tileSize = tileSize; return this; }
+        public Builder executionMode(ExecutionMode executionMode) { this.executionMode = executionMode; return this; }
+        public Builder minPlayers(int minPlayers) { this.minPlayers = minPlayers; return this; }
+        public Builder initialLives(int initialLives) { this.initialLives = initialLives; return this; }
+        public Builder gameTimeLimit(int gameTimeLimit) { this.gameTimeLimit = gameTimeLimit; return this; }
+        public Builder maxLives(int maxLives) { this.maxLives = maxLives; return this; }
+        public Builder coinValues(int... coinValues) { this.coinValues = coinValues.clone(); return this; }
+        public Builder logFile(String logFile) { this.logFile = logFile; return this; }
+        public Builder logToConsole(boolean logToConsole) { this.logToConsole = logToConsole; return this; }
+        public Builder logLevels(String logLevels) { this.logLevels = logLevels; return this; }
+
+        public Builder playerSleep(int min, int max) {
+            this.playerSleepMin = min;
+            this.playerSleepMax = max;
+            return this;
+        }
+
+        public Builder lifeSleep(int min, int max) {
+            this.lifeSleepMin = min;
+            this.lifeSleepMax = max;
+            return this;
+        }
+
+        public Builder coinSleep(int min, int max) {
+            this.coinSleepMin = min;
+            this.coinSleepMax = max;
+            return this;
+        }
+
+        public Builder trapSleep(int min, int max) {
+            this.trapSleepMin = min;
+            this.trapSleepMax = max;
+            return this;
+        }
+
+        public Builder logQueue(int capacity, OverflowPolicy overflow) {
+            this.logQueueCapacity = capacity;
+            this.logOverflow = overflow;
+            return this;
+        }
+
+        public Builder displayQueue(int capacity, OverflowPolicy overflow) {
+            this.displayQueueCapacity = capacity;
+            this.displayOverflow = overflow;
+            return this;
+        }
+
+        public Builder display(Display.RenderMode renderMode, int maxFps) {
+            this.displayRenderMode = renderMode;
+            this.displayMaxFps = maxFps;
+            return this;
+        }
+
+        /**
+         * Asigna un valor por nombre de clave, como en el archivo de configuración.
+         */
+        public Builder set(String key, String value) {
+            try {
+                switch (key) {
+                    case "board.size": boardSize = Integer.parseInt(value); break;
+                    case "board.packed": packedBoard = Boolean.parseBoolean(value); break;
+                    case "board.itemDensity": itemDensity = Double.parseDouble(value); break;
+                    case "board.tileSize": tileSize = Integer.parseInt(value); break;
+                    case "execution.mode": executionMode = ExecutionMode.valueOf(value.toUpperCase()); break;
+                    case "players.min": minPlayers = Integer.parseInt(value); break;
+                    case "players.initialLives": initialLives = Integer.parseInt(value); break;
+                    case "players.sleepMin": playerSleepMin = Integer.parseInt(value); break;
+                    case "players.sleepMax": playerSleepMax = Integer.parseInt(value); break;
+                    case "game.timeLimit": gameTimeLimit = Integer.parseInt(value); break;
+                    case "lives.max": maxLives = Integer.parseInt(value); break;
+                    case "lives.sleepMin": lifeSleepMin = Integer.parseInt(value); break;
+                    case "lives.sleepMax": lifeSleepMax = Integer.parseInt(value); break;
+                    case "coins.sleepMin": coinSleepMin = Integer.parseInt(value); break;
+                    case "coins.sleepMax": coinSleepMax = Integer.parseInt(value); break;
+                    case "coins.values": coinValues = parseInts(value); break;
+                    case "traps.sleepMin": trapSleepMin = Integer.parseInt(value); break;
+                    case "traps.sleepMax": trapSleepMax = Integer.parseInt(value); break;
+                    case "log.file": logFile = value; break;
+                    case "log.console": logToConsole = Boolean.parseBoolean(value); break;
+                    case "log.levels": logLevels = value; break;
+                    case "log.queueCapacity": logQueueCapacity = Integer.parseInt(value); break;
+                    case "log.overflow": logOverflow = OverflowPolicy.valueOf(value.toUpperCase()); break;
+                    case "display.queueCapacity": displayQueueCapacity = Integer.parseInt(value); break;
+                    case "display.overflow": displayOverflow = OverflowPolicy.valueOf(value.toUpperCase()); break;
+                    case "display.renderMode": displayRenderMode = Display.RenderMode.valueOf(value.toUpperCase()); break;
+                    case "display.maxFps": displayMaxFps = Integer.parseInt(value); break;
+                    default:
+                        throw new IllegalArgumentException("Unknown config key: " + key);
+                }
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException("Invalid value for " + key + ": " + value);
+            }
+            return this;
+        }
+
+        private static int[] parseInts(String value) {
+            return Arrays.stream(value.split(","))
+                    .map(String::trim)
+                    .mapToInt(Integer::parseInt)
+                    .toArray();
+        }
+
+        /** Valida y crea la configuración; junta todos los errores en un solo mensaje. */
+        public GameConfig build() {
+            List<String> errors = new ArrayList<>();
+
+            // size * size tiene que entrar en un int
+            if (boardSize < 2 || boardSize > 46340) errors.add("board.size must be between 2 and 46340");
+            if (itemDensity <= 0 || itemDensity > 0.5) errors.add("board.itemDensity must be in (0, 0.5]");
+            if (tileSize != 0 && tileSize < 4) errors.add("board.tileSize must be 0 (no tiles) or at least 4");
+            if (minPlayers < 2) errors.add("players.min must be at least 2");
+            if ((long) boardSize * boardSize < minPlayers) errors.add("board is too small for players.min");
+            if (initialLives < 1) errors.add("players.initialLives must be at least 1");
+            if (gameTimeLimit <= 0) errors.add("game.timeLimit must be positive");
+            if (maxLives < 0) errors.add("lives.max must not be negative");
+            checkRange(errors, "players", playerSleepMin, playerSleepMax);
+            checkRange(errors, "lives", lifeSleepMin, lifeSleepMax);
+            checkRange(errors, "coins", coinSleepMin, coinSleepMax);
+            checkRange(errors, "traps", trapSleepMin, trapSleepMax);
+            if (coinValues.length == 0) errors.add("coins.values must not be empty");
+            for (int value : coinValues) {
+                if (value <= 0) {
+                    errors.add("coins.values must be positive");
+                    break;
+                }
+            }
+            if (logQueueCapacity < 1) errors.add("log.queueCapacity must be positive");
+            if (displayQueueCapacity < 1) errors.add("display.queueCapacity must be positive");
+            if (displayMaxFps < 1) errors.add("display.maxFps must be at least 1");
+            if (logFile == null || logFile.isEmpty()) errors.add("log.file must not be empty");
+            try {
+                Logger.parseLevels(logLevels);
+            } catch (IllegalArgumentException e) {
+                errors.add("log.levels: " + e.getMessage());
+            }
+
+            if (!errors.isEmpty()) {
+                throw new IllegalArgumentException("Invalid configuration: " + String.join("; ", errors));
+            }
+            return new GameConfig(this);
+        }
+
+        private static void checkRange(List<String> errors, String prefix, int min, int max) {
+            if (min < 0 || max < min) {
+                errors.add(prefix + ".sleepMin/sleepMax must satisfy 0 <= min <= max");
+            }
+        }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,33 @@
+package game;
+
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Un único timer compartido por todas las partidas para los límites de tiempo.
+ * Cada partida agenda su vencimiento y lo cancela si termina antes, así
+ * ninguna tiene que despertarse a revisar el reloj.
+ */
+public final class GameTimer {
+    private static final ScheduledThreadPoolExecutor TIMER = createTimer();
+
+    private GameTimer() {
+    }
+
+    private static ScheduledThreadPoolExecutor createTimer() {
+        ScheduledThreadPoolExecutor timer = new ScheduledThreadPoolExecutor(1,
+                Thread.ofPlatform().name("game-timer").daemon(true).factory());
+        // Las partidas que terminan antes cancelan su vencimiento: sacarlo de la cola
+        timer.setRemoveOnCancelPolicy(true);
+        return timer;
+    }
+
+    public static ScheduledFuture<?> schedule(Runnable task, long delayMs) {
+        return TIMER.schedule(task, delayMs, TimeUnit.MILLISECONDS);
+    }
+
+    public static int getPending() {
+        return TIMER.getQueue().size();
+    }
+}
@@ -0,0 +1,137 @@
+package game;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Modo sin preguntas por consola: registra N jugadores, juega todas las
+ * partidas posibles (seguidas o en paralelo) y escribe un resumen en JSON.
+ * Se configura con argumentos (--players=9 --parallel) o con un archivo
+ * .properties (--config=batch.properties) que usa las mismas claves; el resto
+ * de las claves (profile, board.size, ...) van a GameConfig.
+ */
+public class HeadlessRunner {
+    private GameConfig config;
+    private int players;
+    private boolean parallel = false;
+    private int maxConcurrent = Integer.MAX_VALUE;
+    private String resultsFile = "results.json";
+
+    public static boolean isHeadless(String[] args) {
+        for (String arg : args) {
+            if (arg.equals("--headless")) return true;
+        }
+        return false;
+    }
+
+    public static HeadlessRunner fromArgs(String[] args) throws IOException {
+        Map<String, String> options = GameConfig.parseArgs(args);
+        options.remove("headless");
+
+        // Opciones propias del modo batch; lo demás es configuración del juego
+        HeadlessRunner runner = new HeadlessRunner();
+        String players = options.remove("players");
+        String parallel = options.remove("parallel");
+        String maxConcurrent = options.remove("max-concurrent");
+        String results = options.remove("results");
+        // --log=<archivo> es anterior a log.file y se sigue aceptando
+        String log = options.remove("log");
+        if (log != null) options.putIfAbsent("log.file", log);
+
+        runner.config = GameConfig.fromOptions(options);
+        runner.players = players != null ? Integer.parseInt(players) : runner.config.getMinPlayers();
+        if (runner.players < runner.config.getMinPlayers()) {
+            throw new IllegalArgumentException("players must be at least " + runner.config.getMinPlayers());
+        }
+        if (parallel != null) runner.parallel = Boolean.parseBoolean(parallel);
+        if (maxConcurrent != null) runner.maxConcurrent = Integer.parseInt(maxConcurrent);
+        if (results != null) runner.resultsFile = results;
+        return runner;
+    }
+
+    /**
+     * Juega todas las partidas y escribe el resumen.
+     * @return código de salida (0 si todas las partidas terminaron)
+     */
+    public int run() throws IOException, InterruptedException {
+        Logger logger = new Logger(config.getLogFile(), config.getLogQueueCapacity(), config.getLogOverflow());
+        logger.setConsoleEcho(false);
+        logger.configureLevels(config.getLogLevels());
+        logger.start();
+        Thread loggerThread = new Thread(logger);
+        loggerThread.start();
+
+        // Grupos completos de minPlayers, igual que en modo interactivo
+        int groupSize = config.getMinPlayers();
+        List<List<Integer>> groups = new ArrayList<>();
+        int games = players / groupSize;
+        for (int g = 0; g < games; g++) {
+            List<Integer> group = new ArrayList<>();
+            for (int i = 1; i <= groupSize; i++) {
+                group.add(g * groupSize + i);
+            }
+            groups.add(group);
+        }
+
+        MatchStats stats = new MatchStats();
+        MatchOrchestrator orchestrator = new MatchOrchestrator(logger, stats, config);
+        orchestrator.setMaxConcurrent(parallel ? maxConcurrent : 1);
+
+        System.out.println("Headless: " + players + " players, " + games + " games" +
+                (parallel ? " in parallel" : " back-to-back"));
+        long start = System.currentTimeMillis();
+        List<MatchResult> results = orchestrator.runAll(groups);
+        long wallTime = System.currentTimeMillis() - start;
+
+        logger.stop();
+        loggerThread.join(2000);
+
+        try (Writer writer = Files.newBufferedWriter(Path.of(resultsFile), StandardCharsets.UTF_8)) {
+            writer.write(toJson(results, wallTime));
+        }
+        System.out.println(stats.summary());
+        System.out.println("Results written to " + resultsFile);
+
+        return results.size() == games ? 0 : 1;
+    }
+
+    private String toJson(List<MatchResult> results, long wallTime) {
+        StringBuilder sb = new StringBuilder();
+        sb.append("{\n");
+        sb.append("  \"players\": ").append(players).append(",\n");
+        sb.append("  \"unassignedPlayers\": ").append(players % config.getMinPlayers()).append(",\n");
+        sb.append("  \"parallel\": ").append(parallel).append(",\n");
+        sb.append("  \"boardSize\": ").append(config.getBoardSize()).append(",\n");
+        sb.append("  \"wallTimeMs\": ").append(wallTime).append(",\n");
+        sb.append("  \"games\": [");
+        for (int i = 0; i < results.size(); i++) {
+            sb.append(i == 0 ? "\n    " : ",\n    ");
+            appendJson(sb, results.get(i));
+        }
+        sb.append("\n  ]\n}\n");
+        return sb.toString();
+    }
+
+    private static void appendJson(StringBuilder sb, MatchResult result) {
+        sb.append("{\"game\": ").append(result.getMatchNumber())
+                .append(", \"durationMs\": ").append(result.getDurationMs())
+                .append(", \"endReason\": \"").append(result.getEndReason()).append('"')
+                .append(", \"winner\": ").append(result.getWinnerId() == 0 ? "null" : String.valueOf(result.getWinnerId()))
+                .append(", \"players\": [");
+        for (int i = 0; i < result.getPlayerCount(); i++) {
+            if (i > 0) sb.append(", ");
+            sb.append("{\"id\": ").append(result.getPlayerId(i))
+                    .append(", \"coins\": ").append(result.getCoins(i))
+                    .append(", \"lives\": ").append(result.getLives(i))
+                    .append(", \"alive\": ").append(result.isAlive(i))
+                    .append('}');
+        }
+        sb.append("]}");
+    }
+}
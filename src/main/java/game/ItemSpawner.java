@@ -0,0 +1,214 @@
+package game;
+
+import board.Board;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Generador de items compartido por todas las partidas. Cada partida arranca
+ * una tarea por política (vidas, monedas, trampas) sobre un único executor
+ * programado, en lugar de tener tres hilos de robot que duermen: una partida
+ * no ocupa ningún hilo mientras espera su próxima colocación.
+ *
+ * Al llegar al máximo la tarea no se reprograma: queda registrada en el
+ * tablero y vuelve a correr (después de la pausa mínima) cuando alguien
+ * saca un item de su tipo.
+ *
+ * Las tareas nunca esperan al logger: con la cola llena sus mensajes (y los
+ * eventos ITEM_PLACED del tablero) se descartan y cuentan como perdidos,
+ * aunque la política del log sea BLOCK. Si no, el log lleno de una partida
+ * frenaría la generación de items de todas.
+ */
+public final class ItemSpawner {
+    private static final ScheduledThreadPoolExecutor EXECUTOR = createExecutor();
+
+    private ItemSpawner() {
+    }
+
+    private static ScheduledThreadPoolExecutor createExecutor() {
+        int threads = Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+        ScheduledThreadPoolExecutor executor = new ScheduledThreadPoolExecutor(threads,
+                Thread.ofPlatform().name("item-spawner-", 0).daemon(true).factory());
+        // Las partidas que terminan cancelan su próxima colocación: sacarla de la cola
+        executor.setRemoveOnCancelPolicy(true);
+        return executor;
+    }
+
+    /**
+     * Empieza a generar items en el tablero de una partida.
+     * @return las tareas de la partida, para detenerlas al terminar
+     */
+    public static Spawn start(Board board, SpawnPolicy[] policies, Logger logger) {
+        Spawn spawn = new Spawn(logger);
+        for (SpawnPolicy policy : policies) {
+            Task task = new Task(policy, board, new Random(), logger);
+            task.startGame();
+            spawn.tasks.add(task);
+            task.schedule(0);
+        }
+        spawn.log("Item spawner started (" + policies.length + " item types)");
+        return spawn;
+    }
+
+    public static int getPending() {
+        return EXECUTOR.getQueue().size();
+    }
+
+    public static int getThreadCount() {
+        return EXECUTOR.getPoolSize();
+    }
+
+    /** Las tareas de generación de una partida. */
+    public static class Spawn {
+        private final List<Task> tasks = new ArrayList<>();
+        private final Logger logger;
+
+        Spawn(Logger logger) {
+            this.logger = logger;
+        }
+
+        public void stop() {
+            for (Task task : tasks) {
+                task.stopGame();
+            }
+            log("Item spawner stopped");
+        }
+
+        private void log(String msg) {
+            if (logger != null) {
+                logger.tryLog(LogLevel.INFO, LogCategory.ROBOT, msg);
+            }
+        }
+    }
+
+    /**
+     * Generación de un tipo de item en un tablero. En tiempo real la programa
+     * el executor compartido; en una Simulation la maneja el TickScheduler.
+     * Nunca corre en dos hilos a la vez: cada vuelta programa la siguiente.
+     */
+    public static class Task implements Runnable, TickScheduler.Actor {
+        private static final int PLACED = 0;
+        private static final int AT_CAP = 1;
+        private static final int FINISHED = 2;
+
+        private final SpawnPolicy policy;
+        private final Board board;
+        private final Random random;
+        private final Logger logger;
+        private final AtomicBoolean active = new AtomicBoolean(false);
+        private volatile ScheduledFuture<?> next;
+        private boolean waiting; // En el máximo, esperando que saquen un item
+
+        public Task(SpawnPolicy policy, Board board, Random random, Logger logger) {
+            this.policy = policy;
+            this.board = board;
+            this.random = random;
+            this.logger = logger;
+        }
+
+        public void startGame() {
+            active.set(true);
+        }
+
+        public void stopGame() {
+            active.set(false);
+            ScheduledFuture<?> pending = next;
+            if (pending != null) {
+                pending.cancel(false);
+            }
+        }
+
+        @Override
+        public void run() {
+            if (!active.get()) return;
+            try {
+                // La versión se lee antes de revisar el máximo para no perder un aviso
+                long seen = board.getItemsTakenVersion(policy.getType());
+                switch (step()) {
+                    case PLACED:
+                        schedule(policy.nextDelay(random));
+                        break;
+                    case AT_CAP:
+                        // Se respeta la pausa mínima también al despertar
+                        board.onItemTaken(policy.getType(), seen, () -> schedule(policy.getMinDelay()));
+                        break;
+                    default:
+                        active.set(false);
+                        break;
+                }
+            } catch (Exception e) {
+                log(LogLevel.INFO, "ItemSpawner error (" + policy.getType() + "): " + e.getMessage());
+                schedule(policy.nextDelay(random));
+            }
+        }
+
+        /**
+         * Un paso en modo simulado (TickScheduler). Al estar en el máximo
+         * vuelve a revisar después de la pausa normal, que en tiempo simulado
+         * no cuesta nada.
+         */
+        @Override
+        public long act(long now) {
+            if (!active.get()) return -1;
+            try {
+                if (step() == FINISHED) return -1;
+            } catch (Exception e) {
+                log(LogLevel.INFO, "ItemSpawner error (" + policy.getType() + "): " + e.getMessage());
+            }
+            return policy.nextDelay(random);
+        }
+
+        private int step() {
+            if (!policy.hasRoom(board)) {
+                if (policy.isFinalCap()) {
+                    log(LogLevel.INFO, "ItemSpawner reached maximum " + policy.getType() + " items. Stopping.");
+                    return FINISHED;
+                }
+                if (!waiting) {
+                    // Se avisa una sola vez al llegar al máximo
+                    waiting = true;
+                    log(LogLevel.DEBUG, "ItemSpawner waiting - max " + policy.getType() + " reached");
+                }
+                return AT_CAP;
+            }
+
+            waiting = false;
+            if (board.placeItem(policy.getType(), policy.nextQuantity(random))) {
+                if (isLogging(LogLevel.DEBUG)) {
+                    log(LogLevel.DEBUG, "ItemSpawner placed " + policy.getType() +
+                            " (lives: " + board.getLivesCount() +
+                            ", coin cells: " + board.getCoinCells() +
+                            ", traps: " + board.getTrapsCount() + ")");
+                }
+            } else {
+                log(LogLevel.DEBUG, "ItemSpawner couldn't place " + policy.getType() + " - no free spots");
+            }
+            return PLACED;
+        }
+
+        private void schedule(long delayMs) {
+            if (!active.get()) return;
+            next = EXECUTOR.schedule(this, delayMs, TimeUnit.MILLISECONDS);
+        }
+
+        // El executor es de todas las partidas: nunca esperar una cola de log llena
+        private void log(LogLevel level, String msg) {
+            if (logger != null) {
+                logger.tryLog(level, LogCategory.ROBOT, msg);
+            }
+        }
+
+        private boolean isLogging(LogLevel level) {
+            return logger != null && logger.isEnabled(level, LogCategory.ROBOT);
+        }
+
+        public SpawnPolicy getPolicy() { return policy; }
+        public boolean isActive() { return active.get(); }
+    }
+}
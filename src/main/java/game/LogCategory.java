@@ -0,0 +1,9 @@
+package game;
+
+/**
+ * Subsistema que genera un mensaje de log. Cada categoría puede tener
+ * su propio nivel mínimo.
+ */
+public enum LogCategory {
+    GAME, BOARD, DISPLAY, PLAYER, ROBOT
+}
@@ -0,0 +1,9 @@
+package game;
+
+/**
+ * Niveles de log, del más detallado al menos detallado.
+ * TRACE: cada casilla; DEBUG: turnos y robots; INFO: eventos de partida.
+ */
+public enum LogLevel {
+    TRACE, DEBUG, INFO
+}
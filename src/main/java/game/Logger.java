@@ -2,35 +2,144 @@ package game;
 
 import entities.Player;
 
-import java.io.FileWriter;
 import java.io.IOException;
-import java.io.PrintWriter;
-import java.text.SimpleDateFormat;
-import java.util.Date;
-import java.util.concurrent.BlockingQueue;
-import java.util.concurrent.LinkedBlockingQueue;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.Arrays;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.LockSupport;
 
 public class Logger implements Runnable {
-    private BlockingQueue<String> messageQueue;
+    // Escritura por lotes: se vuelca al archivo al juntar FLUSH_CHARS o cada FLUSH_INTERVAL_MS
+    private static final int MAX_BATCH = 1024;
+    private static final int FLUSH_CHARS = 64 * 1024;
+    private static final long FLUSH_INTERVAL_MS = 200;
+
+    private static final DateTimeFormatter TIME_FORMAT =
+            DateTimeFormatter.ofPattern("HH:mm:ss.SSS").withZone(ZoneId.systemDefault());
+
+    private EventRing events;
     private AtomicBoolean active;
-    private PrintWriter fileWriter;
+
+    // Las vistas de forMatch comparten cola, niveles e hilo con root y marcan
+    // cada evento con su partida (0 = sin partida)
+    private final Logger root;
+    private final int match;
+    private FileChannel fileChannel;
     private String filename;
-    private SimpleDateFormat timeFormat;
+    private volatile boolean consoleEcho;
+
+    // Nivel mínimo por categoría (ordinal de LogLevel), se lee antes de armar cualquier mensaje
+    private volatile int[] minLevels;
+
+    // Estado del hilo del logger
+    private StringBuilder pending;
+    private long lastFlush;
+    private long prefixMillis = -1;
+    private String prefix;
+    private long reportedCoalesced;
+
+    // Sin eventos el hilo del logger se duerme; el productor que publica lo despierta
+    private volatile Thread writer;
+    private volatile boolean idle;
 
     public Logger(String filename) {
+        this(filename, GameConfig.defaults().getLogQueueCapacity(), GameConfig.defaults().getLogOverflow());
+    }
+
+    public Logger(String filename, int queueCapacity, OverflowPolicy overflowPolicy) {
         this.filename = filename;
-        this.messageQueue = new LinkedBlockingQueue<>();
+        this.events = new EventRing(queueCapacity, overflowPolicy);
         this.active = new AtomicBoolean(false);
-        this.timeFormat = new SimpleDateFormat("HH:mm:ss.SSS");
+        this.root = this;
+        this.match = 0;
+        this.pending = new StringBuilder(FLUSH_CHARS);
+        this.consoleEcho = true;
+        this.minLevels = new int[LogCategory.values().length]; // TRACE: todo
 
         try {
-            this.fileWriter = new PrintWriter(new FileWriter(filename, true));
+            this.fileChannel = FileChannel.open(Paths.get(filename),
+                    StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
         } catch (IOException e) {
             System.err.println("Error creating log file: " + e.getMessage());
         }
     }
 
+    private Logger(Logger root, int match) {
+        this.filename = root.filename;
+        this.events = root.events;
+        this.active = root.active;
+        this.root = root;
+        this.match = match;
+    }
+
+    /**
+     * Logger para una partida: escribe en la misma cola y el mismo archivo,
+     * pero cada línea sale con "[Game N]" para separar partidas en paralelo.
+     * No tiene hilo propio: start, stop y run se llaman sobre el original.
+     */
+    public Logger forMatch(int matchNumber) {
+        return new Logger(root, matchNumber);
+    }
+
+    /**
+     * Configura los niveles con un texto como "INFO,BOARD=TRACE,DISPLAY=DEBUG":
+     * un nivel sin categoría aplica a todas, y después se aplican las categorías.
+     */
+    public void configureLevels(String spec) {
+        root.minLevels = parseLevels(spec);
+    }
+
+    /**
+     * Nivel mínimo por categoría según el texto de configureLevels.
+     * @throws IllegalArgumentException si alguna parte no es un nivel o una categoría
+     */
+    static int[] parseLevels(String spec) {
+        int[] levels = new int[LogCategory.values().length];
+        if (spec == null) return levels;
+
+        for (String part : spec.split(",")) {
+            part = part.trim();
+            if (part.isEmpty()) continue;
+
+            int eq = part.indexOf('=');
+            try {
+                if (eq < 0) {
+                    Arrays.fill(levels, LogLevel.valueOf(part.toUpperCase()).ordinal());
+                } else {
+                    LogCategory category = LogCategory.valueOf(part.substring(0, eq).trim().toUpperCase());
+                    levels[category.ordinal()] = LogLevel.valueOf(part.substring(eq + 1).trim().toUpperCase()).ordinal();
+                }
+            } catch (IllegalArgumentException e) {
+                throw new IllegalArgumentException("Invalid log level setting: " + part);
+            }
+        }
+        return levels;
+    }
+
+    public void setLevel(LogCategory category, LogLevel level) {
+        int[] levels = root.minLevels.clone();
+        levels[category.ordinal()] = level.ordinal();
+        root.minLevels = levels;
+    }
+
+    public boolean isEnabled(LogLevel level, LogCategory category) {
+        return active.get() && level.ordinal() >= root.minLevels[category.ordinal()];
+    }
+
+    /**
+     * Si está activo, cada lote escrito también se muestra en consola.
+     */
+    public void setConsoleEcho(boolean consoleEcho) {
+        this.consoleEcho = consoleEcho;
+    }
+
     public void start() {
         active.set(true);
         log("=== GAME LOG STARTED ===");
@@ -39,49 +148,193 @@ public class Logger implements Runnable {
     public void stop() {
         log("=== GAME LOG ENDED ===");
         active.set(false);
+        wakeWriter();
     }
 
     @Override
     public void run() {
-        while (active.get() || !messageQueue.isEmpty()) {
+        lastFlush = System.currentTimeMillis();
+        writer = Thread.currentThread();
+
+        while (active.get() || events.size() > 0) {
             try {
-                // Esperar mensaje con timeout
-                String message = messageQueue.poll(1, java.util.concurrent.TimeUnit.SECONDS);
+                // Tomar todo lo publicado (hasta un lote) y formatearlo acá
+                int drained = drainBatch();
 
-                if (message != null) {
-                    writeToFile(message);
+                long now = System.currentTimeMillis();
+                if (pending.length() >= FLUSH_CHARS || now - lastFlush >= FLUSH_INTERVAL_MS) {
+                    flush();
+                    lastFlush = now;
+                }
+
+                if (drained == 0) {
+                    awaitEvents(now);
+                    if (Thread.interrupted()) break;
                 }
 
-            } catch (InterruptedException e) {
-                break;
             } catch (Exception e) {
                 System.err.println("Logger error: " + e.getMessage());
             }
         }
 
-        // Cerrar archivo
-        if (fileWriter != null) {
-            fileWriter.close();
+        // Volcar lo que quede y cerrar archivo
+        while (drainBatch() > 0) {
+            // seguir vaciando
+        }
+        flush();
+        if (fileChannel != null) {
+            try {
+                fileChannel.close();
+            } catch (IOException e) {
+                System.err.println("Error closing log file: " + e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Duerme hasta que un productor publique o hasta el próximo volcado, en
+     * lugar de revisar la cola cada milisegundo. idle se anota antes de mirar
+     * la cola: el productor reserva su lugar antes de leer idle, así que o
+     * la cola ya no está vacía o el productor ve idle y despierta al hilo.
+     */
+    private void awaitEvents(long now) {
+        idle = true;
+        if (events.size() == 0 && active.get()) {
+            long waitMs = pending.length() > 0
+                    ? Math.max(1, FLUSH_INTERVAL_MS - (now - lastFlush))
+                    : FLUSH_INTERVAL_MS;
+            LockSupport.parkNanos(waitMs * 1_000_000);
+        } else {
+            // Reservado pero todavía sin publicar: el productor está por terminar
+            Thread.onSpinWait();
+        }
+        idle = false;
+    }
+
+    private void wakeWriter() {
+        if (root.idle) {
+            Thread thread = root.writer;
+            if (thread != null) {
+                LockSupport.unpark(thread);
+            }
         }
     }
 
     public void log(String message) {
-        if (active.get()) {
-            messageQueue.offer(message);
+        log(LogLevel.INFO, LogCategory.GAME, message);
+    }
+
+    public void log(LogLevel level, LogCategory category, String message) {
+        if (isEnabled(level, category)) {
+            events.publish(EventType.TEXT, message, match, -1, 0, 0, 0, 0);
+            wakeWriter();
+        }
+    }
+
+    /**
+     * Como log(level, category, message), pero nunca espera: si la cola está
+     * llena el mensaje se descarta y se cuenta en getDroppedEvents(), aunque
+     * la política sea BLOCK. Para hilos compartidos entre partidas.
+     */
+    public void tryLog(LogLevel level, LogCategory category, String message) {
+        if (isEnabled(level, category)) {
+            events.offer(EventType.TEXT, message, match, -1, 0, 0, 0, 0);
+            wakeWriter();
+        }
+    }
+
+    // Eventos estructurados: solo se guardan enteros, el texto se arma en el hilo del logger
+    public void event(EventType type, int actor) {
+        event(type, actor, 0, 0, 0, 0);
+    }
+
+    public void event(EventType type, int actor, int a) {
+        event(type, actor, a, 0, 0, 0);
+    }
+
+    public void event(EventType type, int actor, int a, int b) {
+        event(type, actor, a, b, 0, 0);
+    }
+
+    public void event(EventType type, int actor, int a, int b, int c) {
+        event(type, actor, a, b, c, 0);
+    }
+
+    public void event(EventType type, int actor, int a, int b, int c, int d) {
+        if (isEnabled(type.getLevel(), type.getCategory())) {
+            events.publish(type, null, match, actor, a, b, c, d);
+            wakeWriter();
         }
     }
 
-    private void writeToFile(String message) {
-        if (fileWriter != null) {
-            String timestamp = timeFormat.format(new Date());
-            String logEntry = "[" + timestamp + "] " + message;
+    /** Como event, pero nunca espera (ver tryLog). */
+    public void tryEvent(EventType type, int actor, int a, int b, int c, int d) {
+        if (isEnabled(type.getLevel(), type.getCategory())) {
+            events.offer(type, null, match, actor, a, b, c, d);
+            wakeWriter();
+        }
+    }
+
+    private int drainBatch() {
+        int drained = 0;
+        EventRing.Slot slot;
+        while (drained < MAX_BATCH && (slot = events.poll()) != null) {
+            int mark = pending.length();
+            pending.append(timestampPrefix(slot.time));
+            if (slot.match > 0) {
+                pending.append("[Game ").append(slot.match).append("] ");
+            }
+            slot.type.format(pending, slot);
+            pending.append('\n');
+
+            if (!events.release(slot)) {
+                pending.setLength(mark); // Lo pisaron mientras se leía
+            }
+            drained++;
+        }
+
+        // Con COALESCE se deja constancia de lo que no entró en la cola
+        long coalesced = events.getCoalesced();
+        if (coalesced > reportedCoalesced) {
+            pending.append(timestampPrefix(System.currentTimeMillis()))
+                    .append("... ").append(coalesced - reportedCoalesced)
+                    .append(" log events coalesced (queue full)\n");
+            reportedCoalesced = coalesced;
+        }
+        return drained;
+    }
 
-            // Escribir a archivo
-            fileWriter.println(logEntry);
-            fileWriter.flush();
+    /**
+     * El prefijo "[HH:mm:ss.SSS] " solo se vuelve a formatear cuando cambia el milisegundo.
+     */
+    private String timestampPrefix(long now) {
+        if (now != prefixMillis) {
+            prefixMillis = now;
+            prefix = "[" + TIME_FORMAT.format(Instant.ofEpochMilli(now)) + "] ";
+        }
+        return prefix;
+    }
+
+    private void flush() {
+        if (pending.length() == 0) return;
+
+        String chunk = pending.toString();
+        pending.setLength(0);
+
+        if (fileChannel != null) {
+            try {
+                ByteBuffer buffer = ByteBuffer.wrap(chunk.getBytes(StandardCharsets.UTF_8));
+                while (buffer.hasRemaining()) {
+                    fileChannel.write(buffer);
+                }
+            } catch (IOException e) {
+                System.err.println("Error writing log file: " + e.getMessage());
+            }
+        }
 
-            // También mostrar en consola para debug
-            System.out.println(logEntry);
+        // También mostrar en consola para debug
+        if (consoleEcho) {
+            System.out.print(chunk);
         }
     }
 
@@ -113,6 +366,8 @@ public class Logger implements Runnable {
 
     // Getters para debug
     public boolean isActive() { return active.get(); }
-    public int getQueueSize() { return messageQueue.size(); }
+    public int getQueueSize() { return events.size(); }
+    public long getDroppedEvents() { return events.getDropped(); }
+    public long getCoalescedEvents() { return events.getCoalesced(); }
     public String getFilename() { return filename; }
 }
\ No newline at end of file
@@ -0,0 +1,279 @@
+package game;
+
+import board.Board;
+import entities.Player;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Una partida con hilos: su propio tablero y grupo de jugadores. Los items
+ * los coloca el ItemSpawner compartido, sin hilos propios de la partida.
+ * El logger y el pool de entidades se reciben de afuera para que varias
+ * partidas compartan uno solo.
+ */
+public class Match {
+    // Tiempo máximo para que los jugadores terminen al cortar la partida
+    private static final long SHUTDOWN_TIMEOUT_MS = 500;
+
+    private int matchNumber;
+    private Board board;
+    private Logger logger;
+    private EntityPool pool;
+    private GameConfig config;
+    private List<Player> players;
+    private List<EntityTask> tasks;
+    private CountDownLatch stopped;
+    private CountDownLatch startLatch;
+    private AtomicBoolean active;
+    private long startTime;
+    private Player winner;
+
+    // Fin de partida por eventos: muertes y vencimiento del timer compartido
+    private CompletableFuture<String> ended;
+    private AtomicInteger alivePlayers;
+    private ScheduledFuture<?> timeLimit;
+
+    // Generación de items en el executor compartido
+    private ItemSpawner.Spawn spawn;
+
+    public Match(int matchNumber, List<Integer> playerIds, Logger logger, EntityPool pool, GameConfig config) {
+        this.matchNumber = matchNumber;
+        // Las partidas en paralelo comparten archivo: cada línea lleva su número
+        this.logger = logger.forMatch(matchNumber);
+        this.pool = pool;
+        this.config = config;
+        this.players = new ArrayList<>();
+        this.tasks = new ArrayList<>();
+        this.active = new AtomicBoolean(false);
+        this.ended = new CompletableFuture<>();
+        this.alivePlayers = new AtomicInteger(playerIds.size());
+
+        this.board = new Board(config);
+        board.setLogger(this.logger);
+
+        // Jugadores con estado limpio
+        for (int id : playerIds) {
+            Player player = pool.acquirePlayer(id, board);
+            player.setLogger(this.logger);
+            player.setConfig(config);
+            players.add(player);
+        }
+    }
+
+    /** Conecta un display al tablero (opcional, en modo headless no hay). */
+    public void setDisplay(Display display) {
+        board.setDisplay(display);
+    }
+
+    public void start() {
+        startLatch = new CountDownLatch(1);
+        stopped = new CountDownLatch(players.size());
+        active.set(true);
+
+        // Lanzar jugadores en el pool (quedan bloqueados en el latch)
+        for (Player player : players) {
+            player.setStartLatch(startLatch);
+            player.setDeathListener(this::onPlayerDeath);
+            launch(player);
+        }
+
+        // Iniciar jugadores y liberar a todos a la vez
+        for (Player player : players) {
+            player.startGame();
+        }
+        startTime = System.currentTimeMillis();
+        timeLimit = GameTimer.schedule(this::onTimeLimit, config.getGameTimeLimit());
+        startLatch.countDown();
+        spawn = ItemSpawner.start(board, SpawnPolicy.fromConfig(config), logger);
+
+        logger.logGameStart(board.getSize(), players.size());
+        logger.log("Game " + matchNumber + " started");
+
+        if (alivePlayers.get() <= 1) {
+            end("last player standing");
+        }
+    }
+
+    private void onPlayerDeath() {
+        if (alivePlayers.decrementAndGet() <= 1) {
+            if (end("last player standing")) {
+                logger.log("Only one player remaining in Game " + matchNumber);
+            }
+        }
+    }
+
+    private void onTimeLimit() {
+        if (end("time limit")) {
+            logger.log("Time limit reached for Game " + matchNumber);
+        }
+    }
+
+    /**
+     * Termina la espera de la partida; solo cuenta el primer motivo.
+     * @return true si este llamado fue el que la terminó
+     */
+    public boolean end(String reason) {
+        return ended.complete(reason);
+    }
+
+    /** Se completa con el motivo en cuanto la partida termina. */
+    public CompletableFuture<String> getEndSignal() {
+        return ended;
+    }
+
+    private void launch(Runnable entity) {
+        EntityTask task = new EntityTask(entity);
+        tasks.add(task);
+        task.future = pool.submit(task);
+    }
+
+    /**
+     * Espera hasta que se acabe el tiempo o quede un solo jugador vivo.
+     * No hace polling: lo despiertan la muerte de un jugador o el timer.
+     * @return motivo del fin de la partida
+     */
+    public String awaitEnd() {
+        try {
+            return ended.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            end("interrupted");
+            return "interrupted";
+        } catch (ExecutionException e) {
+            return "failed";
+        }
+    }
+
+    /**
+     * Detiene jugadores y generación de items, espera los hilos y registra los resultados.
+     */
+    public MatchResult finish(String endReason) {
+        active.set(false);
+        end(endReason);
+        if (timeLimit != null) {
+            timeLimit.cancel(false);
+        }
+
+        // Detener jugadores
+        for (Player player : players) {
+            player.stopGame();
+        }
+
+        // Detener la generación de items
+        if (spawn != null) {
+            spawn.stop();
+        }
+
+        // Interrumpir los que estén durmiendo y esperar un tiempo acotado
+        stopEntities();
+        long duration = System.currentTimeMillis() - startTime;
+
+        // Encontrar ganador
+        winner = null;
+        int maxCoins = -1;
+        for (Player p : players) {
+            if (p.isAlive() && p.getCoins() > maxCoins) {
+                maxCoins = p.getCoins();
+                winner = p;
+            }
+        }
+
+        logger.logResults(players);
+        if (winner != null) {
+            logger.logWinner(winner);
+        } else {
+            logger.log("No winner - all players died in Game " + matchNumber);
+        }
+        logger.logGameEnd("Game " + matchNumber + " completed");
+
+        return new MatchResult(matchNumber, duration, endReason, winner, players);
+    }
+
+    /**
+     * Devuelve al pool las entidades que ya terminaron. Se llama después de usar
+     * los resultados; las que no terminaron a tiempo no se reutilizan.
+     */
+    public void recycle() {
+        for (EntityTask task : tasks) {
+            if (task.done) {
+                pool.release(task.entity);
+            }
+        }
+        tasks.clear();
+    }
+
+    /** Juega la partida completa en el hilo actual. */
+    public MatchResult play() {
+        start();
+        MatchResult result = finish(awaitEnd());
+        recycle();
+        return result;
+    }
+
+    private void stopEntities() {
+        for (EntityTask task : tasks) {
+            task.cancel();
+        }
+        try {
+            if (!stopped.await(SHUTDOWN_TIMEOUT_MS, TimeUnit.MILLISECONDS)) {
+                logger.log("Game " + matchNumber + ": " + stopped.getCount() +
+                        " entities did not stop within " + SHUTDOWN_TIMEOUT_MS + "ms");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    public int getMatchNumber() { return matchNumber; }
+    public Board getBoard() { return board; }
+    public List<Player> getPlayers() { return players; }
+    public Player getWinner() { return winner; }
+    public boolean isActive() { return active.get(); }
+
+    /**
+     * Envoltorio de una entidad en el pool: avisa cuando terminó y se puede
+     * cancelar aunque todavía no haya arrancado.
+     */
+    private class EntityTask implements Runnable {
+        private final Runnable entity;
+        private final AtomicBoolean started = new AtomicBoolean(false);
+        private volatile Future<?> future;
+        private volatile boolean done;
+
+        EntityTask(Runnable entity) {
+            this.entity = entity;
+        }
+
+        @Override
+        public void run() {
+            if (!started.compareAndSet(false, true)) return; // Cancelada antes de arrancar
+            try {
+                entity.run();
+            } finally {
+                markDone();
+            }
+        }
+
+        void cancel() {
+            if (started.compareAndSet(false, true)) {
+                markDone(); // Nunca va a correr
+            } else if (future != null) {
+                future.cancel(true); // Interrumpe el sleep
+            }
+        }
+
+        private void markDone() {
+            done = true;
+            stopped.countDown();
+        }
+    }
+}
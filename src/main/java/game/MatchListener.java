@@ -0,0 +1,12 @@
+package game;
+
+/**
+ * Destino compartido de las partidas: lo llaman los hilos de cada partida,
+ * así que las implementaciones tienen que ser thread-safe.
+ */
+public interface MatchListener {
+    default void onMatchStart(Match match) {
+    }
+
+    void onMatchEnd(MatchResult result);
+}
@@ -0,0 +1,77 @@
+package game;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Corre varias partidas a la vez en la misma JVM. Cada una tiene su tablero
+ * y grupo de jugadores; todas comparten el logger, el listener y el ItemSpawner.
+ * Las partidas solo esperan, el trabajo lo hacen sus jugadores y el generador
+ * de items, así que cada partida corre en un hilo virtual.
+ */
+public class MatchOrchestrator {
+    private Logger logger;
+    private MatchListener listener;
+    private GameConfig config;
+    private int maxConcurrent;
+
+    public MatchOrchestrator(Logger logger, MatchListener listener, GameConfig config) {
+        this.logger = logger;
+        this.listener = listener;
+        this.config = config;
+        this.maxConcurrent = Integer.MAX_VALUE;
+    }
+
+    /** Máximo de partidas simultáneas; el resto espera su turno. */
+    public void setMaxConcurrent(int maxConcurrent) {
+        this.maxConcurrent = Math.max(1, maxConcurrent);
+    }
+
+    /**
+     * Juega una partida por grupo de jugadores y devuelve los resultados en el
+     * mismo orden que los grupos.
+     */
+    public List<MatchResult> runAll(List<List<Integer>> playerGroups) throws InterruptedException {
+        int parallel = Math.min(maxConcurrent, Math.max(1, playerGroups.size()));
+        EntityPool pool = new EntityPool(config.getExecutionMode());
+        ExecutorService executor = Executors.newFixedThreadPool(parallel, Thread.ofVirtual().name("match-", 1).factory());
+
+        List<Future<MatchResult>> futures = new ArrayList<>();
+        try {
+            int matchNumber = 1;
+            for (List<Integer> group : playerGroups) {
+                int number = matchNumber++;
+                // La partida se arma al arrancar, así reutiliza entidades de las que ya terminaron
+                futures.add(executor.submit(() -> play(new Match(number, group, logger, pool, config))));
+            }
+
+            List<MatchResult> results = new ArrayList<>();
+            for (Future<MatchResult> future : futures) {
+                try {
+                    results.add(future.get());
+                } catch (ExecutionException e) {
+                    logger.log(LogLevel.INFO, LogCategory.GAME, "Match failed: " + e.getCause());
+                }
+            }
+            return results;
+        } finally {
+            executor.shutdownNow();
+            pool.shutdown();
+        }
+    }
+
+    private MatchResult play(Match match) {
+        if (listener != null) {
+            listener.onMatchStart(match);
+        }
+        MatchResult result = match.play();
+        if (listener != null) {
+            listener.onMatchEnd(result);
+        }
+        return result;
+    }
+}
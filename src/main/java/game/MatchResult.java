@@ -0,0 +1,53 @@
+package game;
+
+import entities.Player;
+
+import java.util.List;
+
+/**
+ * Resultado inmutable de una partida jugada con hilos (Match).
+ */
+public class MatchResult {
+    private final int matchNumber;
+    private final long durationMs;
+    private final String endReason;
+    private final int winnerId;      // 0 si murieron todos
+    private final int[] playerIds;
+    private final int[] coins;
+    private final int[] lives;
+    private final boolean[] alive;
+
+    MatchResult(int matchNumber, long durationMs, String endReason, Player winner, List<Player> players) {
+        this.matchNumber = matchNumber;
+        this.durationMs = durationMs;
+        this.endReason = endReason;
+        this.winnerId = winner != null ? winner.getId() : 0;
+        this.playerIds = new int[players.size()];
+        this.coins = new int[players.size()];
+        this.lives = new int[players.size()];
+        this.alive = new boolean[players.size()];
+        for (int i = 0; i < players.size(); i++) {
+            Player p = players.get(i);
+            playerIds[i] = p.getId();
+            coins[i] = p.getCoins();
+            lives[i] = p.getLives();
+            alive[i] = p.isAlive();
+        }
+    }
+
+    public int getMatchNumber() { return matchNumber; }
+    public long getDurationMs() { return durationMs; }
+    public String getEndReason() { return endReason; }
+    public int getWinnerId() { return winnerId; }
+    public int getPlayerCount() { return playerIds.length; }
+    public int getPlayerId(int index) { return playerIds[index]; }
+    public int getCoins(int index) { return coins[index]; }
+    public int getLives(int index) { return lives[index]; }
+    public boolean isAlive(int index) { return alive[index]; }
+
+    @Override
+    public String toString() {
+        return "Game " + matchNumber + " - " + endReason + " after " + durationMs + "ms - winner " +
+                (winnerId == 0 ? "none" : "Player " + winnerId);
+    }
+}
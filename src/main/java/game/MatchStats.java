@@ -0,0 +1,67 @@
+package game;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Métricas agregadas de todas las partidas. Varias partidas terminan a la vez,
+ * así que se acumula con contadores atómicos y sin locks.
+ */
+public class MatchStats implements MatchListener {
+    private AtomicInteger running;
+    private LongAdder finished;
+    private LongAdder noWinner;
+    private LongAdder totalCoins;
+    private LongAdder totalPlayers;
+    private LongAdder totalDurationMs;
+
+    public MatchStats() {
+        this.running = new AtomicInteger(0);
+        this.finished = new LongAdder();
+        this.noWinner = new LongAdder();
+        this.totalCoins = new LongAdder();
+        this.totalPlayers = new LongAdder();
+        this.totalDurationMs = new LongAdder();
+    }
+
+    @Override
+    public void onMatchStart(Match match) {
+        running.incrementAndGet();
+    }
+
+    @Override
+    public void onMatchEnd(MatchResult result) {
+        running.decrementAndGet();
+        finished.increment();
+        if (result.getWinnerId() == 0) {
+            noWinner.increment();
+        }
+        for (int i = 0; i < result.getPlayerCount(); i++) {
+            totalCoins.add(result.getCoins(i));
+        }
+        totalPlayers.add(result.getPlayerCount());
+        totalDurationMs.add(result.getDurationMs());
+    }
+
+    public int getRunning() { return running.get(); }
+    public long getFinished() { return finished.sum(); }
+    public long getNoWinner() { return noWinner.sum(); }
+
+    public double getAverageCoins() {
+        long players = totalPlayers.sum();
+        return players == 0 ? 0 : totalCoins.sum() / (double) players;
+    }
+
+    public double getAverageDurationMs() {
+        long games = finished.sum();
+        return games == 0 ? 0 : totalDurationMs.sum() / (double) games;
+    }
+
+    public String summary() {
+        return "Games: " + getFinished() +
+                " | Running: " + getRunning() +
+                " | No winner: " + getNoWinner() +
+                " | Avg coins/player: " + String.format("%.2f", getAverageCoins()) +
+                " | Avg duration: " + String.format("%.0f", getAverageDurationMs()) + "ms";
+    }
+}
@@ -0,0 +1,15 @@
+package game;
+
+/**
+ * Qué hacer cuando una cola acotada está llena.
+ *
+ * BLOCK: el productor espera a que haya lugar.
+ * DROP_OLDEST: se pisa el evento más viejo todavía no consumido.
+ * DROP_NEWEST: se descarta el evento nuevo.
+ * COALESCE: se descarta el evento nuevo pero el consumidor se entera y lo
+ * resume (el Display redibuja con el estado actual, el Logger escribe cuántos
+ * eventos se juntaron).
+ */
+public enum OverflowPolicy {
+    BLOCK, DROP_OLDEST, DROP_NEWEST, COALESCE
+}
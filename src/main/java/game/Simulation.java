@@ -0,0 +1,166 @@
+package game;
+
+import board.Board;
+import entities.Player;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Partida en tiempo simulado: jugadores y generadores de items los maneja un TickScheduler
+ * en lugar de hilos que duermen, así una partida de GAME_TIME_LIMIT termina en
+ * milisegundos y con la misma semilla da siempre el mismo resultado.
+ */
+public class Simulation {
+    private long seed;
+    private int playerCount;
+    private GameConfig config;
+
+    public Simulation(long seed, GameConfig config) {
+        this.seed = seed;
+        this.playerCount = config.getMinPlayers();
+        this.config = config;
+    }
+
+    public Result run() {
+        TickScheduler scheduler = new TickScheduler(seed);
+
+        Board board = new Board(config);
+        board.setRandom(scheduler.newRandom());
+
+        // Generación de items, las mismas políticas que en tiempo real
+        List<ItemSpawner.Task> spawners = new ArrayList<>();
+        for (SpawnPolicy policy : SpawnPolicy.fromConfig(config)) {
+            ItemSpawner.Task spawner = new ItemSpawner.Task(policy, board, scheduler.newRandom(), null);
+            spawner.startGame();
+            spawners.add(spawner);
+            scheduler.schedule(spawner, 0);
+        }
+
+        // Jugadores
+        List<Player> players = new ArrayList<>();
+        for (int id = 1; id <= playerCount; id++) {
+            Player player = new Player(id, board);
+            player.setConfig(config);
+            player.setRandom(scheduler.newRandom());
+            player.startGame();
+            players.add(player);
+            scheduler.schedule(player, 0);
+        }
+
+        long endTime = scheduler.runUntil(config.getGameTimeLimit(), () -> alivePlayers(players) <= 1);
+
+        for (ItemSpawner.Task spawner : spawners) {
+            spawner.stopGame();
+        }
+        for (Player player : players) {
+            player.stopGame();
+        }
+
+        return new Result(seed, endTime, scheduler.getActions(), players);
+    }
+
+    private static int alivePlayers(List<Player> players) {
+        int alive = 0;
+        for (Player p : players) {
+            if (p.isAlive()) alive++;
+        }
+        return alive;
+    }
+
+    /** Resultado de una partida simulada. */
+    public static class Result {
+        private final long seed;
+        private final long endTime;
+        private final long actions;
+        private final int winnerId;    // 0 si murieron todos
+        private final int[] coins;     // por jugador, en orden de id
+        private final int[] lives;
+
+        Result(long seed, long endTime, long actions, List<Player> players) {
+            this.seed = seed;
+            this.endTime = endTime;
+            this.actions = actions;
+            this.coins = new int[players.size()];
+            this.lives = new int[players.size()];
+
+            // Mismo criterio que Game: el vivo con más monedas
+            int winner = 0;
+            int maxCoins = -1;
+            for (int i = 0; i < players.size(); i++) {
+                Player p = players.get(i);
+                coins[i] = p.getCoins();
+                lives[i] = p.getLives();
+                if (p.isAlive() && p.getCoins() > maxCoins) {
+                    maxCoins = p.getCoins();
+                    winner = p.getId();
+                }
+            }
+            this.winnerId = winner;
+        }
+
+        public long getSeed() { return seed; }
+        public long getEndTime() { return endTime; }
+        public long getActions() { return actions; }
+        public int getWinnerId() { return winnerId; }
+        public int getCoins(int playerIndex) { return coins[playerIndex]; }
+        public int getLives(int playerIndex) { return lives[playerIndex]; }
+        public int getPlayerCount() { return coins.length; }
+
+        @Override
+        public String toString() {
+            return "seed=" + seed + " time=" + endTime + "ms actions=" + actions + " winner=" + winnerId;
+        }
+    }
+
+    /**
+     * Corre muchas partidas seguidas para pruebas de balance.
+     * Uso: Simulation [--games=1000] [--seed=1] [--threads=N] [opciones de GameConfig]
+     */
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = GameConfig.parseArgs(args);
+        int games = Integer.parseInt(remove(options, "games", "1000"));
+        long seed = Long.parseLong(remove(options, "seed", "1"));
+        int threads = Integer.parseInt(remove(options, "threads",
+                String.valueOf(Runtime.getRuntime().availableProcessors())));
+        GameConfig config = GameConfig.fromOptions(options);
+        int players = config.getMinPlayers();
+
+        ExecutorService pool = Executors.newFixedThreadPool(threads);
+        long start = System.nanoTime();
+        List<Future<Result>> futures = new ArrayList<>();
+        for (int i = 0; i < games; i++) {
+            Simulation simulation = new Simulation(seed + i, config);
+            futures.add(pool.submit(simulation::run));
+        }
+
+        int[] wins = new int[players + 1];
+        long totalCoins = 0;
+        for (Future<Result> future : futures) {
+            Result result = future.get();
+            wins[result.getWinnerId()]++;
+            for (int i = 0; i < result.getPlayerCount(); i++) {
+                totalCoins += result.getCoins(i);
+            }
+        }
+        pool.shutdown();
+        long elapsedMs = (System.nanoTime() - start) / 1_000_000;
+
+        System.out.println("Games: " + games + " in " + elapsedMs + "ms (" +
+                (games * 60_000L / Math.max(1, elapsedMs)) + " games/min, " + threads + " threads)");
+        System.out.println("No winner: " + wins[0]);
+        for (int id = 1; id < wins.length; id++) {
+            System.out.println("Player " + id + " wins: " + wins[id]);
+        }
+        System.out.println("Average coins per player: " + (totalCoins / (double) (games * players)));
+    }
+
+    private static String remove(Map<String, String> options, String key, String defaultValue) {
+        String value = options.remove(key);
+        return value != null ? value : defaultValue;
+    }
+}
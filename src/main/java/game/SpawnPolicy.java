@@ -0,0 +1,80 @@
+package game;
+
+import board.Board;
+
+import java.util.Random;
+
+/**
+ * Cómo se genera un tipo de item: cada cuánto (pausa entre minDelay y
+ * maxDelay ms), hasta cuánto y con qué cantidad.
+ */
+public class SpawnPolicy {
+    /** Sin máximo propio: lo decide el tablero con su parte por región. */
+    public static final int NO_CAP = -1;
+
+    private final Board.ItemType type;
+    private final int minDelay;
+    private final int maxDelay;
+    private final int cap;            // Máximo de vidas; monedas y trampas los limita el tablero (NO_CAP)
+    private final int[] quantities;   // Se elige una al azar en cada colocación
+
+    public SpawnPolicy(Board.ItemType type, int minDelay, int maxDelay, int cap, int[] quantities) {
+        this.type = type;
+        this.minDelay = minDelay;
+        this.maxDelay = maxDelay;
+        this.cap = cap;
+        this.quantities = quantities.clone();
+    }
+
+    public static SpawnPolicy lives(GameConfig config) {
+        return new SpawnPolicy(Board.ItemType.LIFE, config.getLifeSleepMin(), config.getLifeSleepMax(),
+                config.getMaxLives(), new int[]{1});
+    }
+
+    public static SpawnPolicy coins(GameConfig config) {
+        return new SpawnPolicy(Board.ItemType.COIN, config.getCoinSleepMin(), config.getCoinSleepMax(),
+                NO_CAP, config.getCoinValues());
+    }
+
+    public static SpawnPolicy traps(GameConfig config) {
+        return new SpawnPolicy(Board.ItemType.TRAP, config.getTrapSleepMin(), config.getTrapSleepMax(),
+                NO_CAP, new int[]{1});
+    }
+
+    /** Vidas, monedas y trampas con los valores de la configuración. */
+    public static SpawnPolicy[] fromConfig(GameConfig config) {
+        return new SpawnPolicy[]{lives(config), coins(config), traps(config)};
+    }
+
+    /** Si hay lugar bajo el máximo para otro item de este tipo. */
+    public boolean hasRoom(Board board) {
+        switch (type) {
+            case COIN:
+                return board.canPlaceCoins();
+            case TRAP:
+                return board.canPlaceTraps();
+            default:
+                return cap == NO_CAP || board.getLivesCount() < cap;
+        }
+    }
+
+    /**
+     * Las trampas cuentan las colocadas en la partida: al llegar al máximo
+     * no vuelve a haber lugar y no tiene sentido esperar.
+     */
+    public boolean isFinalCap() {
+        return type == Board.ItemType.TRAP;
+    }
+
+    public int nextQuantity(Random random) {
+        return quantities.length == 1 ? quantities[0] : quantities[random.nextInt(quantities.length)];
+    }
+
+    public int nextDelay(Random random) {
+        return random.nextInt(maxDelay - minDelay + 1) + minDelay;
+    }
+
+    public Board.ItemType getType() { return type; }
+    public int getMinDelay() { return minDelay; }
+    public int getMaxDelay() { return maxDelay; }
+}
@@ -0,0 +1,94 @@
+package game;
+
+import java.util.PriorityQueue;
+import java.util.Random;
+import java.util.function.BooleanSupplier;
+
+/**
+ * Planificador de eventos discretos: en lugar de que cada entidad duerma,
+ * se guarda en una cola de prioridad el instante de su próxima acción y se
+ * avanza el reloj simulado de evento en evento.
+ * Corre en un solo hilo, así una partida es reproducible a partir de la semilla;
+ * para aprovechar varios núcleos se corren varias partidas en paralelo.
+ */
+public class TickScheduler {
+
+    /** Algo que actúa en el tiempo simulado (jugador o generador de items). */
+    public interface Actor {
+        /**
+         * Ejecuta una acción en el instante now (ms simulados).
+         * @return demora hasta la próxima acción, o -1 si no vuelve a actuar
+         */
+        long act(long now);
+    }
+
+    private final PriorityQueue<Entry> queue;
+    private final Random random;
+    private long now;
+    private long sequence;   // Desempata acciones en el mismo instante por orden de alta
+    private long actions;
+
+    public TickScheduler(long seed) {
+        this.queue = new PriorityQueue<>();
+        this.random = new Random(seed);
+        this.now = 0;
+        this.sequence = 0;
+        this.actions = 0;
+    }
+
+    /** Random derivado de la semilla, uno por entidad para que no compartan secuencia. */
+    public Random newRandom() {
+        return new Random(random.nextLong());
+    }
+
+    public void schedule(Actor actor, long delay) {
+        queue.add(new Entry(now + Math.max(0, delay), sequence++, actor));
+    }
+
+    /**
+     * Procesa acciones hasta llegar a endTime, vaciar la cola o que stop sea verdadero
+     * (se evalúa después de cada acción).
+     * @return instante simulado en el que se detuvo
+     */
+    public long runUntil(long endTime, BooleanSupplier stop) {
+        while (!queue.isEmpty()) {
+            Entry next = queue.peek();
+            if (next.time > endTime) {
+                now = endTime;
+                break;
+            }
+            queue.poll();
+            now = next.time;
+            actions++;
+
+            long delay = next.actor.act(now);
+            if (delay >= 0) {
+                schedule(next.actor, delay);
+            }
+            if (stop.getAsBoolean()) break;
+        }
+        return now;
+    }
+
+    public long getNow() { return now; }
+    public long getActions() { return actions; }
+    public int getPending() { return queue.size(); }
+
+    private static class Entry implements Comparable<Entry> {
+        private final long time;
+        private final long sequence;
+        private final Actor actor;
+
+        Entry(long time, long sequence, Actor actor) {
+            this.time = time;
+            this.sequence = sequence;
+            this.actor = actor;
+        }
+
+        @Override
+        public int compareTo(Entry other) {
+            int cmp = Long.compare(time, other.time);
+            return cmp != 0 ? cmp : Long.compare(sequence, other.sequence);
+        }
+    }
+}